@@ -2,8 +2,10 @@ package group25.sep.server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SepServerApplication {
 
 	public static void main(String[] args) {
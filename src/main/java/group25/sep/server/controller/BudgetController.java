@@ -1,19 +1,34 @@
 package group25.sep.server.controller;
 
+import group25.sep.server.dto.BudgetRevisionDetail;
 import group25.sep.server.model.Budget;
-import group25.sep.server.model.Event;
+import group25.sep.server.model.BudgetItem;
+import group25.sep.server.model.BudgetRevision;
+import group25.sep.server.service.BudgetHistoryService;
 import group25.sep.server.service.BudgetService;
-import group25.sep.server.service.EventService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
-@RequestMapping("/api/{eventID}/budget/")
+@RequestMapping("/api/{eventID}/budget")
 public class BudgetController {
     private final BudgetService budgetService;
+    private final BudgetHistoryService budgetHistoryService;
 
-    public BudgetController(BudgetService budgetService) {
+    public BudgetController(BudgetService budgetService, BudgetHistoryService budgetHistoryService) {
         this.budgetService = budgetService;
+        this.budgetHistoryService = budgetHistoryService;
+    }
+
+    // With items=false only the id, description and total are read.
+    @GetMapping
+    public ResponseEntity<?> getEventBudget(
+            @PathVariable("eventID") Long eventId,
+            @RequestParam(value = "items", defaultValue = "true") boolean items) {
+        return ResponseEntity.ok(items ? budgetService.getEventBudget(eventId) : budgetService.getEventBudgetHeader(eventId));
     }
 
     @GetMapping("/{id}")
@@ -21,4 +36,36 @@ public class BudgetController {
         return ResponseEntity.ok(budgetService.getBudgetById(id));
     }
 
+    @PostMapping("/items")
+    public ResponseEntity<BudgetItem> addItem(@PathVariable("eventID") Long eventId, @RequestBody BudgetItem item) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(budgetService.addItem(eventId, item));
+    }
+
+    @PutMapping("/items/{itemId}")
+    public ResponseEntity<BudgetItem> updateItem(
+            @PathVariable("eventID") Long eventId,
+            @PathVariable("itemId") Long itemId,
+            @RequestBody BudgetItem item) {
+        return ResponseEntity.ok(budgetService.updateItem(eventId, itemId, item));
+    }
+
+    @DeleteMapping("/items/{itemId}")
+    public ResponseEntity<Void> removeItem(@PathVariable("eventID") Long eventId, @PathVariable("itemId") Long itemId) {
+        budgetService.removeItem(eventId, itemId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/revisions")
+    public ResponseEntity<List<BudgetRevision>> getRevisions(@PathVariable("eventID") Long eventId) {
+        return ResponseEntity.ok(budgetHistoryService.getRevisions(eventId));
+    }
+
+    // Rebuilt from the nearest snapshot at or before the revision plus the deltas after it.
+    @GetMapping("/revisions/{revision}")
+    public ResponseEntity<BudgetRevisionDetail> getRevision(
+            @PathVariable("eventID") Long eventId,
+            @PathVariable("revision") int revision) {
+        return ResponseEntity.ok(budgetHistoryService.getRevision(eventId, revision));
+    }
+
 }
@@ -0,0 +1,25 @@
+package group25.sep.server.controller;
+
+import group25.sep.server.service.ChangeFeed;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:4200")
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+    private final ChangeFeed changeFeed;
+
+    public ChangeFeedController(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(value = "eventId", required = false) Long eventId,
+            @RequestParam(value = "subteam", required = false) String subteam) {
+        return changeFeed.subscribe(eventId, subteam);
+    }
+}
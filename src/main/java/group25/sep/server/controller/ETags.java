@@ -0,0 +1,37 @@
+package group25.sep.server.controller;
+
+import group25.sep.server.model.Event;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Strong ETags derived from an entity's {@code @Version}, written as {@code "<version>"}.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Event event) {
+        return "\"" + event.getVersion() + "\"";
+    }
+
+    /**
+     * Returns the version named by an If-Match header, or null when the header is absent or {@code *}.
+     * Weak validators never match for writes.
+     */
+    static Long parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // falls through to the precondition failure below
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not name a current version: " + header);
+    }
+}
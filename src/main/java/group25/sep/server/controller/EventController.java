@@ -1,27 +1,59 @@
 package group25.sep.server.controller;
 
+import group25.sep.server.dto.BudgetRollupReport;
+import group25.sep.server.dto.BudgetVarianceFilter;
+import group25.sep.server.dto.BulkStatusRequest;
+import group25.sep.server.dto.BulkStatusResult;
+import group25.sep.server.dto.CursorPage;
+import group25.sep.server.dto.EventCacheStats;
+import group25.sep.server.model.BudgetVariance;
 import group25.sep.server.model.Event;
+import group25.sep.server.model.EventSummary;
+import group25.sep.server.model.enums.EventStatus;
 import group25.sep.server.dto.EventPatchRequest;
+import group25.sep.server.dto.SearchPage;
+import group25.sep.server.dto.TaskBoard;
+import group25.sep.server.service.BudgetService;
 import group25.sep.server.service.EventService;
+import group25.sep.server.service.ExportService;
+import group25.sep.server.service.TaskService;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 @RestController
-@CrossOrigin(origins = "http://localhost:4200")
+// The client reads the ETag to send it back as If-Match, so it has to be exposed cross-origin.
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = HttpHeaders.ETAG)
 @RequestMapping("/api/events")
 public class EventController {
 
     private final EventService eventService;
+    private final ExportService exportService;
+    private final TaskService taskService;
+    private final BudgetService budgetService;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, ExportService exportService, TaskService taskService,
+                           BudgetService budgetService) {
         this.eventService = eventService;
+        this.exportService = exportService;
+        this.taskService = taskService;
+        this.budgetService = budgetService;
     }
 
     @PostMapping
-    public ResponseEntity<Event> createEvent(@RequestBody Event event) {
-        return ResponseEntity.ok(eventService.createEvent(event));
+    public ResponseEntity<Event> createEvent(
+            @RequestBody Event event,
+            @RequestParam(value = "rejectConflicts", defaultValue = "false") boolean rejectConflicts) {
+        return ResponseEntity.ok(eventService.createEvent(event, rejectConflicts));
     }
 
     @GetMapping
@@ -29,9 +61,122 @@ public class EventController {
         return ResponseEntity.ok(eventService.getAllEvents());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<Event>> getEventPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "id") String sort,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(eventService.getEventPage(cursor, size, sort, direction));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<CursorPage<EventSummary>> getEventSummaryPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "id") String sort,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(eventService.getEventSummaryPage(cursor, size, sort, direction));
+    }
+
+    @GetMapping("/summary/status/{status}")
+    public ResponseEntity<List<EventSummary>> getEventSummariesByStatus(@PathVariable("status") String status) {
+        return ResponseEntity.ok(eventService.getEventSummariesByStatus(status));
+    }
+
+    @GetMapping("/range")
+    public ResponseEntity<List<EventSummary>> getEventsActiveBetween(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        return ResponseEntity.ok(eventService.getEventsActiveBetween(from, to));
+    }
+
+    @GetMapping("/this-week")
+    public ResponseEntity<List<EventSummary>> getEventsStartingThisWeek() {
+        return ResponseEntity.ok(eventService.getEventsStartingThisWeek());
+    }
+
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<EventSummary>> getConflictingEvents(
+            @RequestParam("location") String location,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        return ResponseEntity.ok(eventService.getConflictingEvents(location, from, to));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchPage<EventSummary>> searchEvents(
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(eventService.searchEvents(query, page, size));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return NdjsonResponses.stream("events", gzip, exportService::exportEvents);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<EventStatus, Long>> getStatusCounts() {
+        return ResponseEntity.ok(eventService.getStatusCounts());
+    }
+
+    // by=status|month|type; summary=true answers from the budget_rollup table instead of joining live.
+    @GetMapping("/budget/rollup")
+    public ResponseEntity<BudgetRollupReport> getBudgetRollup(
+            @RequestParam(value = "by", defaultValue = "status") String by,
+            @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
+        return ResponseEntity.ok(budgetService.getRollup(by, summary));
+    }
+
+    // Events whose budget total is over and/or under the estimate by at least threshold percent,
+    // largest absolute variance first. direction=over|under|both.
+    @GetMapping("/budget/variance")
+    public ResponseEntity<Slice<BudgetVariance>> getBudgetVariance(
+            @RequestParam(value = "threshold", required = false) BigDecimal threshold,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "direction", defaultValue = "both") String direction,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        BudgetVarianceFilter filter = BudgetVarianceFilter.of(threshold, status, direction);
+        return ResponseEntity.ok(budgetService.getVariance(filter, page, size));
+    }
+
+    @GetMapping("/budget/variance/export")
+    public ResponseEntity<StreamingResponseBody> exportBudgetVariance(
+            @RequestParam(value = "threshold", required = false) BigDecimal threshold,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "direction", defaultValue = "both") String direction,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        BudgetVarianceFilter filter = BudgetVarianceFilter.of(threshold, status, direction);
+        return NdjsonResponses.stream("budget-variance", gzip, out -> exportService.exportBudgetVariance(filter, out));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<EventCacheStats> getCacheStats() {
+        return ResponseEntity.ok(eventService.getCacheStats());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getEventById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    public ResponseEntity<Event> getEventById(@PathVariable("id") Long id, WebRequest request) {
+        Event event = eventService.getEventById(id);
+        String etag = ETags.of(event);
+        // Answers If-None-Match with a bodiless 304.
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(event);
+    }
+
+    @GetMapping("/{id}/tasks/board")
+    public ResponseEntity<TaskBoard> getTaskBoard(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        // 404 for unknown events rather than an empty board.
+        eventService.requireEvent(id);
+        return ResponseEntity.ok(taskService.getTaskBoard(id, limit));
     }
 
     @GetMapping("/status/{status}")
@@ -40,19 +185,31 @@ public class EventController {
     }
 
     @PutMapping("/{id}/status/{status}")
-    public ResponseEntity<Event> updateEventStatus(@PathVariable("id") Long id, @PathVariable("status") String status) {
-        Event updatedEvent = eventService.updateEventStatus(id, status);
-        return ResponseEntity.ok(updatedEvent);
+    public ResponseEntity<Event> updateEventStatus(
+            @PathVariable("id") Long id,
+            @PathVariable("status") String status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Event updatedEvent = eventService.updateEventStatus(id, status, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updatedEvent)).body(updatedEvent);
+    }
+    @PutMapping("/status")
+    public ResponseEntity<BulkStatusResult> updateEventStatuses(@RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(eventService.updateEventStatuses(request));
     }
+
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEvent(@PathVariable("id") Long id) {
-        eventService.deleteEvent(id);
+    public ResponseEntity<Void> deleteEvent(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "cascade", defaultValue = "false") boolean cascade) {
+        eventService.deleteEvent(id, cascade);
         return ResponseEntity.noContent().build();
     }
     @PatchMapping("/{id}")
     public ResponseEntity<Event> updateEvent(
             @PathVariable("id") Long id,
-            @RequestBody EventPatchRequest request) {
-        return ResponseEntity.ok(eventService.updateEventPartial(id, request));
+            @RequestBody EventPatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Event updatedEvent = eventService.updateEventPartial(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updatedEvent)).body(updatedEvent);
     }
 }
@@ -3,11 +3,14 @@ package group25.sep.server.controller;
 import group25.sep.server.model.FinancialRequest;
 import group25.sep.server.model.enums.Department;
 import group25.sep.server.model.enums.FinancialRequestStatus;
+import group25.sep.server.service.ExportService;
 import group25.sep.server.service.FinancialRequestService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -20,17 +23,24 @@ import java.util.Map;
 public class FinancialRequestController {
 
     private final FinancialRequestService financialRequestService;
+    private final ExportService exportService;
 
     @PostMapping
     public ResponseEntity<FinancialRequest> createFinancialRequest(@RequestBody FinancialRequest financialRequest) {
         try {
             FinancialRequest createdRequest = financialRequestService.createFinancialRequest(financialRequest);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdRequest);
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportFinancialRequests(
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return NdjsonResponses.stream("financial-requests", gzip, exportService::exportFinancialRequests);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<FinancialRequest> getFinancialRequestById(@PathVariable Long id) {
         return financialRequestService.getFinancialRequestById(id)
@@ -88,7 +98,7 @@ public class FinancialRequestController {
             FinancialRequestStatus status = request.get("status");
             FinancialRequest updatedRequest = financialRequestService.updateFinancialRequestStatus(id, status);
             return ResponseEntity.ok(updatedRequest);
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -100,7 +110,7 @@ public class FinancialRequestController {
             String fmNotes = request.get("fmNotes");
             FinancialRequest updatedRequest = financialRequestService.updateFmNotes(id, fmNotes);
             return ResponseEntity.ok(updatedRequest);
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -110,7 +120,7 @@ public class FinancialRequestController {
         try {
             financialRequestService.deleteFinancialRequest(id);
             return ResponseEntity.noContent().build();
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
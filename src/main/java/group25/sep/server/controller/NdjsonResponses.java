@@ -0,0 +1,43 @@
+package group25.sep.server.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds streaming newline-delimited JSON download responses for the export endpoints.
+ */
+final class NdjsonResponses {
+
+    interface RowWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private NdjsonResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> stream(String filename, boolean gzip, RowWriter rows) {
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                rows.writeTo(compressed);
+                compressed.finish();
+            } else {
+                rows.writeTo(out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
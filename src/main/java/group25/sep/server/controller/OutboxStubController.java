@@ -0,0 +1,29 @@
+package group25.sep.server.controller;
+
+import group25.sep.server.model.OutboxRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Local stand-in for the HTTP outbox consumer; only registered with outbox.http.stub=true.
+@RestController
+@RequestMapping("/api/outbox/stub")
+@ConditionalOnProperty(name = "outbox.http.stub", havingValue = "true")
+public class OutboxStubController {
+
+    private final AtomicLong received = new AtomicLong();
+
+    @PostMapping
+    public ResponseEntity<Void> receive(@RequestBody List<OutboxRecord> batch) {
+        received.addAndGet(batch.size());
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping
+    public ResponseEntity<Long> receivedCount() {
+        return ResponseEntity.ok(received.get());
+    }
+}
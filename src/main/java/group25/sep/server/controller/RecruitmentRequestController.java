@@ -4,11 +4,14 @@ import group25.sep.server.model.RecruitmentRequest;
 import group25.sep.server.model.enums.ContractType;
 import group25.sep.server.model.enums.Department;
 import group25.sep.server.model.enums.RecruitmentStatus;
+import group25.sep.server.service.ExportService;
 import group25.sep.server.service.RecruitmentRequestService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -20,6 +23,7 @@ import java.util.Map;
 public class RecruitmentRequestController {
 
     private final RecruitmentRequestService recruitmentRequestService;
+    private final ExportService exportService;
 
     @PostMapping
     public ResponseEntity<RecruitmentRequest> createRecruitmentRequest(
@@ -27,11 +31,17 @@ public class RecruitmentRequestController {
         try {
             RecruitmentRequest createdRequest = recruitmentRequestService.createRecruitmentRequest(recruitmentRequest);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdRequest);
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecruitmentRequests(
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return NdjsonResponses.stream("recruitment-requests", gzip, exportService::exportRecruitmentRequests);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<RecruitmentRequest> getRecruitmentRequestById(@PathVariable Long id) {
         return recruitmentRequestService.getRecruitmentRequestById(id)
@@ -88,7 +98,7 @@ public class RecruitmentRequestController {
             RecruitmentStatus status = request.get("status");
             RecruitmentRequest updatedRequest = recruitmentRequestService.updateRecruitmentRequestStatus(id, status);
             return ResponseEntity.ok(updatedRequest);
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -100,7 +110,7 @@ public class RecruitmentRequestController {
             String hrNotes = request.get("hrNotes");
             RecruitmentRequest updatedRequest = recruitmentRequestService.updateHrNotes(id, hrNotes);
             return ResponseEntity.ok(updatedRequest);
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -110,7 +120,7 @@ public class RecruitmentRequestController {
         try {
             recruitmentRequestService.deleteRecruitmentRequest(id);
             return ResponseEntity.noContent().build();
-        } catch (Exception e) {
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -1,31 +1,87 @@
 package group25.sep.server.controller;
 
+import group25.sep.server.dto.AssigneeWorkload;
+import group25.sep.server.dto.BulkDeleteResult;
+import group25.sep.server.dto.BulkTaskResult;
+import group25.sep.server.dto.CursorPage;
+import group25.sep.server.dto.TaskFilter;
 import group25.sep.server.model.Task;
+import group25.sep.server.model.TaskComment;
+import group25.sep.server.service.ExportService;
+import group25.sep.server.service.TaskCommentService;
 import group25.sep.server.service.TaskService;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 @RestController
-@CrossOrigin(origins = "http://localhost:4200")
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = TaskController.TOTAL_COUNT)
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    static final String TOTAL_COUNT = "X-Total-Count";
+
     private final TaskService taskService;
+    private final ExportService exportService;
+    private final TaskCommentService taskCommentService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ExportService exportService, TaskCommentService taskCommentService) {
         this.taskService = taskService;
+        this.exportService = exportService;
+        this.taskCommentService = taskCommentService;
     }
 
     @PostMapping
-    public ResponseEntity<Task> createTask(@RequestBody Task task) {
-        return ResponseEntity.ok(taskService.createTask(task));
+    public ResponseEntity<Task> createTask(
+            @RequestBody Task task,
+            @RequestParam(value = "autoAssign", defaultValue = "false") boolean autoAssign) {
+        return ResponseEntity.ok(taskService.createTask(task, autoAssign));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResult> createTasks(@RequestBody List<Task> tasks) {
+        return ResponseEntity.ok(taskService.createTasks(tasks));
     }
 
+    // Without filters or paging this is the plain full listing; otherwise one page of matches,
+    // with the overall match count in X-Total-Count.
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<List<Task>> getAllTasks(
+            TaskFilter filter,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", required = false) String sort) {
+        if (filter.isEmpty() && page == null && size == null && sort == null) {
+            return ResponseEntity.ok(taskService.getAllTasks());
+        }
+        Page<Task> result = taskService.findTasks(filter, page, size, sort);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT, String.valueOf(result.getTotalElements()))
+                .body(result.getContent());
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<Task>> getTopTasks(
+            @RequestParam(value = "k", required = false) Integer k,
+            @RequestParam(value = "subteam", required = false) String subteam) {
+        return ResponseEntity.ok(taskService.getTopTasks(k, subteam));
+    }
+
+    @GetMapping("/workload")
+    public ResponseEntity<List<AssigneeWorkload>> getWorkload(
+            @RequestParam(value = "subteam", required = false) String subteam) {
+        return ResponseEntity.ok(taskService.getWorkload(subteam));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return NdjsonResponses.stream("tasks", gzip, exportService::exportTasks);
     }
 
     @GetMapping("/{id}")
@@ -49,14 +105,39 @@ public class TaskController {
         return ResponseEntity.ok(updatedtask);
     }
 
+    // Overwrites the single comments column; new clients should append to /{id}/comments instead.
     @PutMapping("/{id}/comments/{comments}")
     public ResponseEntity<Task> updatetaskComments(@PathVariable Long id, @PathVariable String comments) {
         Task updatedtask = taskService.updateTaskComments(id, comments);
         return ResponseEntity.ok(updatedtask);
     }
+    @PostMapping("/{id}/comments")
+    public ResponseEntity<TaskComment> addTaskComment(@PathVariable Long id, @RequestBody TaskComment comment) {
+        return ResponseEntity.ok(taskCommentService.addComment(id, comment));
+    }
+
+    @GetMapping("/{id}/comments")
+    public ResponseEntity<CursorPage<TaskComment>> getTaskComments(
+            @PathVariable Long id,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(taskCommentService.getComments(id, cursor, size));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Either ?ids=1,2,3 or ?eventId=n; each runs as a single DELETE.
+    @DeleteMapping
+    public ResponseEntity<BulkDeleteResult> deleteTasks(
+            @RequestParam(value = "ids", required = false) List<Long> ids,
+            @RequestParam(value = "eventId", required = false) Long eventId) {
+        if ((ids == null) == (eventId == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Give exactly one of ids or eventId");
+        }
+        return ResponseEntity.ok(ids != null ? taskService.deleteTasks(ids) : taskService.deleteTasksByEventId(eventId));
+    }
 }
@@ -0,0 +1,18 @@
+package group25.sep.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Open work held by one assignee within a subteam. {@code load} weights each open task by its priority.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeWorkload {
+    private String subteam;
+    private String assignee;
+    private int openTasks;
+    private int load;
+}
@@ -0,0 +1,25 @@
+package group25.sep.server.dto;
+
+import group25.sep.server.model.BudgetItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A budget as it stood at one revision, rebuilt from the nearest snapshot and the deltas after it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRevisionDetail {
+    private Long eventId;
+    private int revision;
+    private LocalDateTime createdAt;
+    private String description;
+    private BigDecimal totalAmount;
+    private List<BudgetItem> items;
+}
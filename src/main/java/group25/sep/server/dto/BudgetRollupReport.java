@@ -0,0 +1,22 @@
+package group25.sep.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Budgeted amounts across events, grouped by {@code by} ("status", "month" or "type").
+ * Month keys are "yyyy-MM"; events without the grouped field have a null key.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRollupReport {
+    private String by;
+    private boolean summary;
+    private BigDecimal total;
+    private List<BudgetRollupRow> rows;
+}
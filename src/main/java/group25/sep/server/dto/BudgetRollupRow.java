@@ -0,0 +1,16 @@
+package group25.sep.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRollupRow {
+    private String key;
+    private BigDecimal total;
+    private long events;
+}
@@ -0,0 +1,46 @@
+package group25.sep.server.dto;
+
+import group25.sep.server.model.enums.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Parsed variance report filters. {@code threshold} is the minimum absolute variance as a percentage
+ * of the estimate; {@code status} is null for every status.
+ */
+@Data
+@AllArgsConstructor
+public class BudgetVarianceFilter {
+    private BigDecimal threshold;
+    private EventStatus status;
+    private boolean over;
+    private boolean under;
+
+    // Parsed before the response starts so a streamed report can still answer 400.
+    public static BudgetVarianceFilter of(BigDecimal threshold, String status, String direction) {
+        BigDecimal percent = threshold == null ? BigDecimal.ZERO : threshold;
+        if (percent.signum() < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Variance threshold must be >= 0");
+        }
+        EventStatus eventStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                eventStatus = EventStatus.valueOf(status.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid event status: " + status);
+            }
+        }
+        String dir = direction == null ? "both" : direction.toLowerCase(Locale.ROOT);
+        return switch (dir) {
+            case "over" -> new BudgetVarianceFilter(percent, eventStatus, true, false);
+            case "under" -> new BudgetVarianceFilter(percent, eventStatus, false, true);
+            case "both" -> new BudgetVarianceFilter(percent, eventStatus, true, true);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid variance direction: " + direction);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package group25.sep.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk task deletion: the number of rows removed and their ids.
+ * Requested ids that did not exist are simply absent from {@code ids}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResult {
+    private int deleted;
+    private List<Long> ids;
+}
@@ -0,0 +1,17 @@
+package group25.sep.server.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Moves a set of events to {@code status} in one statement.
+ * Events are selected by {@code ids}, by their current {@code fromStatus}, or by both.
+ * At most 5000 ids are accepted; by {@code fromStatus} alone one call moves at most 5000 events.
+ */
+@Data
+public class BulkStatusRequest {
+    private List<Long> ids;
+    private String fromStatus;
+    private String status;
+}
@@ -0,0 +1,24 @@
+package group25.sep.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResult {
+
+    public enum Outcome {
+        UPDATED,
+        /** The event already had the target status or did not match {@code fromStatus}. */
+        SKIPPED,
+        NOT_FOUND
+    }
+
+    private String status;
+    private int updated;
+    private Map<Long, Outcome> outcomes;
+}
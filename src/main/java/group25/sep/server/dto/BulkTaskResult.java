@@ -0,0 +1,21 @@
+package group25.sep.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk task import. {@code ids} lines up with the submitted rows and holds
+ * null for every row that failed validation; {@code errors} maps those row indexes to the reason.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResult {
+    private int created;
+    private List<Long> ids;
+    private Map<Integer, String> errors;
+}
@@ -0,0 +1,24 @@
+package group25.sep.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change pushed to change feed subscribers. {@code entity} is "event" or "task", {@code change}
+ * is "created", "updated" or "deleted". {@code version} is only set for entities that carry one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeNotification {
+    private String entity;
+    private String change;
+    private Long id;
+    private String status;
+    private Long version;
+    private Long eventId;
+    private String subteam;
+}
@@ -0,0 +1,19 @@
+package group25.sep.server.dto;
+
+import group25.sep.server.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * An event's tasks grouped by status, with one column for every {@link TaskStatus}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoard {
+    private Long eventId;
+    private Map<TaskStatus, TaskBoardColumn> columns;
+}
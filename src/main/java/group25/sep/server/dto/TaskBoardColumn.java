@@ -0,0 +1,20 @@
+package group25.sep.server.dto;
+
+import group25.sep.server.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The tasks in one status column, highest priority first.
+ * {@code count} is the full column size even when {@code tasks} is truncated by a limit.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardColumn {
+    private long count;
+    private List<Task> tasks;
+}
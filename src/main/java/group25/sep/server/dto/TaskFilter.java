@@ -0,0 +1,26 @@
+package group25.sep.server.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Optional task filters bound from query parameters. Unset fields do not filter;
+ * {@code status} and {@code priority} match any of the listed values.
+ */
+@Data
+public class TaskFilter {
+    private List<String> status;
+    private List<String> priority;
+    private String subteam;
+    private String assignee;
+    private Long eventId;
+
+    public boolean isEmpty() {
+        return (status == null || status.isEmpty())
+                && (priority == null || priority.isEmpty())
+                && subteam == null
+                && assignee == null
+                && eventId == null;
+    }
+}
@@ -1,5 +1,6 @@
 package group25.sep.server.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Budget {
 
     @Id
@@ -25,7 +27,15 @@ public class Budget {
 
     private String description;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "budget_id")
+    @OneToMany(mappedBy = "budget", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BudgetItem> items = new ArrayList<>();
+
+    // Items usually arrive as JSON without a back-reference; point them at this budget before they are written.
+    @PrePersist
+    @PreUpdate
+    void linkItems() {
+        if (items != null) {
+            items.forEach(item -> item.setBudget(this));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package group25.sep.server.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Scalar view of a budget without its line items.
+ */
+public interface BudgetHeader {
+    Long getId();
+    String getDescription();
+    BigDecimal getTotalAmount();
+}
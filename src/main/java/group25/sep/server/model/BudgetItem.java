@@ -1,10 +1,14 @@
 package group25.sep.server.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+
 import java.math.BigDecimal;
 
 @Entity
@@ -19,4 +23,11 @@ public class BudgetItem {
     private String description;
     private BigDecimal amount;
 
+    // Owning side of the link, so a single item can be inserted without loading its siblings.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "budget_id")
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Budget budget;
 }
@@ -0,0 +1,44 @@
+package group25.sep.server.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry in an event's append-only budget history. A snapshot revision's changes list every item;
+ * any other revision only lists the items that changed since the previous revision.
+ * Keyed by event rather than budget, because replacing a budget creates a new budget row.
+ */
+@Entity
+@Table(name = "budget_revisions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_budget_revision", columnNames = {"event_id", "revision"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private int revision;
+
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    // Only snapshots carry the description; it can only change when the whole budget is replaced.
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
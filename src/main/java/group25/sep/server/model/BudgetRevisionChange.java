@@ -0,0 +1,41 @@
+package group25.sep.server.model;
+
+import group25.sep.server.model.enums.BudgetChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One item-level change within a budget revision. Snapshot revisions record every item as an ADD.
+ */
+@Entity
+@Table(name = "budget_revision_changes",
+        indexes = @Index(name = "idx_budget_revision_change_revision", columnList = "revision_id, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRevisionChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "revision_id", nullable = false)
+    private Long revisionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BudgetChangeType type;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    private String description;
+
+    private BigDecimal amount;
+}
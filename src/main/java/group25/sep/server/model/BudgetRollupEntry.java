@@ -0,0 +1,33 @@
+package group25.sep.server.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One precomputed row of the cross-event budget rollup, e.g. dimension "status", bucket "ACCEPTED".
+ * The table is rebuilt wholesale by set-based statements; rows are never edited one by one.
+ */
+@Entity
+@Table(name = "budget_rollup", indexes = @Index(name = "idx_budget_rollup_dimension", columnList = "dimension, bucket"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRollupEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String dimension;
+
+    private String bucket;
+
+    private BigDecimal total;
+
+    private Long events;
+}
@@ -0,0 +1,13 @@
+package group25.sep.server.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Scalar result of a budget rollup query: the group key, the summed item amounts and the number
+ * of budgeted events in the group.
+ */
+public interface BudgetRollupView {
+    Object getBucket();
+    BigDecimal getTotal();
+    Long getEvents();
+}
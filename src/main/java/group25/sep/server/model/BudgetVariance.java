@@ -0,0 +1,23 @@
+package group25.sep.server.model;
+
+import group25.sep.server.model.enums.EventStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Scalar row of the budget variance report: an event's estimate against its budget total.
+ * A positive variance means the budget is over the estimate.
+ */
+public interface BudgetVariance {
+    Long getEventId();
+    String getName();
+    EventStatus getStatus();
+    BigDecimal getEstimate();
+    BigDecimal getActual();
+    BigDecimal getVariance();
+
+    default BigDecimal getVariancePercent() {
+        return getVariance().multiply(BigDecimal.valueOf(100)).divide(getEstimate(), 2, RoundingMode.HALF_UP);
+    }
+}
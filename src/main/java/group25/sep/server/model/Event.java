@@ -9,6 +9,11 @@ import java.time.LocalDateTime;
 import java.util.Date;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_start_date", columnList = "start_date"),
+        @Index(name = "idx_event_end_date", columnList = "end_date"),
+        @Index(name = "idx_event_status", columnList = "status")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -44,9 +49,12 @@ public class Event {
     @Column(name = "estimate_budget")
     private BigDecimal estimateBudget;
 
-    @OneToOne(cascade = CascadeType.ALL, optional = true)
+    @OneToOne(cascade = CascadeType.ALL, optional = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "budget_id", referencedColumnName = "id", nullable = true)
     private Budget budget;
 
+    // Bumped on every update; exposed to clients as the ETag.
+    @Version
+    private Long version;
 
 }
\ No newline at end of file
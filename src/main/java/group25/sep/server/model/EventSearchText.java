@@ -0,0 +1,12 @@
+package group25.sep.server.model;
+
+/**
+ * The searchable text columns of an event.
+ */
+public interface EventSearchText {
+    Long getId();
+    String getName();
+    String getDescription();
+    String getLocation();
+    String getType();
+}
@@ -0,0 +1,11 @@
+package group25.sep.server.model;
+
+import group25.sep.server.model.enums.EventStatus;
+
+/**
+ * One row of a count of events grouped by status.
+ */
+public interface EventStatusCount {
+    EventStatus getStatus();
+    long getCount();
+}
@@ -0,0 +1,23 @@
+package group25.sep.server.model;
+
+import group25.sep.server.model.enums.EventStatus;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Scalar columns of an event, without the budget.
+ * Used as a Spring Data projection so listings select only these columns.
+ */
+public interface EventSummary {
+    Long getId();
+    String getName();
+    String getRecordID();
+    String getLocation();
+    String getType();
+    int getAttendees();
+    Date getStartDate();
+    Date getEndDate();
+    EventStatus getStatus();
+    BigDecimal getEstimateBudget();
+}
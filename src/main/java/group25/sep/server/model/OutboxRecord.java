@@ -0,0 +1,50 @@
+package group25.sep.server.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A status change waiting to be relayed to downstream consumers. Written in the same transaction
+ * as the change itself; {@code deliveredAt} is set once a sink has accepted it.
+ */
+@Entity
+@Table(name = "outbox", indexes = @Index(name = "idx_outbox_pending", columnList = "delivered_at, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+    @SequenceGenerator(name = "outbox_seq", sequenceName = "outbox_seq", allocationSize = 50)
+    private Long id;
+
+    // "event" or "task", as in the change feed.
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "previous_status")
+    private String previousStatus;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+}
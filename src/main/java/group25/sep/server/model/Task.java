@@ -12,10 +12,17 @@ import group25.sep.server.model.enums.TaskStatus;
 @AllArgsConstructor
 @Builder
 @Data
-
+@Table(indexes = {
+        @Index(name = "idx_task_event_status", columnList = "event_id, status"),
+        @Index(name = "idx_task_subteam_status", columnList = "subteam, status"),
+        @Index(name = "idx_task_priority", columnList = "priority, id"),
+        @Index(name = "idx_task_priority_subteam", columnList = "priority, subteam, id")
+})
 public class Task {
+    // Pooled sequence so bulk imports can batch their inserts; IDENTITY forces one round trip per row.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
     @Column(name = "event_id")
     private Long eventId;
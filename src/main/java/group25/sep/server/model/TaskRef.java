@@ -0,0 +1,13 @@
+package group25.sep.server.model;
+
+import group25.sep.server.model.enums.TaskStatus;
+
+/**
+ * The columns of a task needed to announce its removal, read without loading the entity.
+ */
+public interface TaskRef {
+    Long getId();
+    Long getEventId();
+    String getSubteam();
+    TaskStatus getStatus();
+}
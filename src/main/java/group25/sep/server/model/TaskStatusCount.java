@@ -0,0 +1,11 @@
+package group25.sep.server.model;
+
+import group25.sep.server.model.enums.TaskStatus;
+
+/**
+ * One row of a count of tasks grouped by status.
+ */
+public interface TaskStatusCount {
+    TaskStatus getStatus();
+    long getCount();
+}
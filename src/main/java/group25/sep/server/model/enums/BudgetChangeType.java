@@ -0,0 +1,7 @@
+package group25.sep.server.model.enums;
+
+public enum BudgetChangeType {
+    ADD,
+    UPDATE,
+    REMOVE
+}
@@ -3,5 +3,6 @@ package group25.sep.server.model.enums;
 public enum TaskStatus {
     CREATED,
     IN_PROGRESS,
-    NEEDS_MANAGER_REVIEW
+    NEEDS_MANAGER_REVIEW,
+    COMPLETED
 }
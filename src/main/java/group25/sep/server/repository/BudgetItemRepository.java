@@ -0,0 +1,18 @@
+package group25.sep.server.repository;
+
+import group25.sep.server.model.BudgetItem;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BudgetItemRepository extends JpaRepository<BudgetItem, Long> {
+    // Locked so concurrent edits of one item compute their total delta from the committed amount.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BudgetItem> findByIdAndBudgetId(Long id, Long budgetId);
+    List<BudgetItem> findByBudgetIdOrderById(Long budgetId);
+}
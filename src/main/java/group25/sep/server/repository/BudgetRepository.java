@@ -1,9 +1,82 @@
 package group25.sep.server.repository;
 
 import group25.sep.server.model.Budget;
+import group25.sep.server.model.BudgetHeader;
+import group25.sep.server.model.BudgetRollupView;
+import group25.sep.server.model.BudgetVariance;
+import group25.sep.server.model.enums.EventStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
+    // Estimate against the maintained budget total in one join; events without an estimate are skipped.
+    // The threshold is a percentage, compared as |actual - estimate| * 100 >= threshold * estimate.
+    String VARIANCE_QUERY = "SELECT e.id AS eventId, e.name AS name, e.status AS status, "
+            + "e.estimateBudget AS estimate, b.totalAmount AS actual, b.totalAmount - e.estimateBudget AS variance "
+            + "FROM Event e JOIN e.budget b "
+            + "WHERE e.estimateBudget > 0 AND b.totalAmount IS NOT NULL "
+            + "AND (:status IS NULL OR e.status = :status) "
+            + "AND ((:over = true AND b.totalAmount > e.estimateBudget) OR (:under = true AND b.totalAmount < e.estimateBudget)) "
+            + "AND ABS(b.totalAmount - e.estimateBudget) * 100 >= :threshold * e.estimateBudget "
+            + "ORDER BY ABS(b.totalAmount - e.estimateBudget) DESC, e.id";
+
+    // An event's budget with its items in a single round trip, or just the header columns.
+    @Query("SELECT b FROM Event e JOIN e.budget b LEFT JOIN FETCH b.items WHERE e.id = :eventId")
+    Optional<Budget> findWithItemsByEventId(@Param("eventId") Long eventId);
+
+    @Query("SELECT b.id AS id, b.description AS description, b.totalAmount AS totalAmount "
+            + "FROM Event e JOIN e.budget b WHERE e.id = :eventId")
+    Optional<BudgetHeader> findHeaderByEventId(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("DELETE FROM BudgetItem i WHERE i.budget.id = :budgetId")
+    int deleteItemsByBudgetId(@Param("budgetId") Long budgetId);
+
+    // Cross-event rollups summed in the database; only events that have a budget are counted.
+    @Query("SELECT e.status AS bucket, COALESCE(SUM(i.amount), 0) AS total, COUNT(DISTINCT e.id) AS events "
+            + "FROM Event e JOIN e.budget b LEFT JOIN b.items i GROUP BY e.status ORDER BY e.status")
+    List<BudgetRollupView> rollupByStatus();
+
+    @Query("SELECT YEAR(e.startDate) * 100 + MONTH(e.startDate) AS bucket, COALESCE(SUM(i.amount), 0) AS total, "
+            + "COUNT(DISTINCT e.id) AS events FROM Event e JOIN e.budget b LEFT JOIN b.items i "
+            + "GROUP BY YEAR(e.startDate) * 100 + MONTH(e.startDate) ORDER BY 1")
+    List<BudgetRollupView> rollupByMonth();
+
+    @Query("SELECT e.type AS bucket, COALESCE(SUM(i.amount), 0) AS total, COUNT(DISTINCT e.id) AS events "
+            + "FROM Event e JOIN e.budget b LEFT JOIN b.items i GROUP BY e.type ORDER BY e.type")
+    List<BudgetRollupView> rollupByType();
+
+    // A slice reads one row past the page instead of running a count over the whole join.
+    @Query(VARIANCE_QUERY)
+    Slice<BudgetVariance> findVariance(@Param("threshold") BigDecimal threshold, @Param("status") EventStatus status,
+                                       @Param("over") boolean over, @Param("under") boolean under, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(VARIANCE_QUERY)
+    Stream<BudgetVariance> streamVariance(@Param("threshold") BigDecimal threshold, @Param("status") EventStatus status,
+                                          @Param("over") boolean over, @Param("under") boolean under);
+
+    // Applies an item change to the total without reading the other items.
+    @Modifying
+    @Query("UPDATE Budget b SET b.totalAmount = COALESCE(b.totalAmount, 0) + :delta WHERE b.id = :id")
+    int addToTotal(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query("DELETE FROM Budget b WHERE b.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
 }
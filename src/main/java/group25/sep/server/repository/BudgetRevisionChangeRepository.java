@@ -0,0 +1,21 @@
+package group25.sep.server.repository;
+
+import group25.sep.server.model.BudgetRevisionChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BudgetRevisionChangeRepository extends JpaRepository<BudgetRevisionChange, Long> {
+    List<BudgetRevisionChange> findByRevisionIdInOrderById(Collection<Long> revisionIds);
+
+    @Modifying
+    @Query("DELETE FROM BudgetRevisionChange c WHERE c.revisionId IN "
+            + "(SELECT r.id FROM BudgetRevision r WHERE r.eventId = :eventId)")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,33 @@
+package group25.sep.server.repository;
+
+import group25.sep.server.model.BudgetRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BudgetRevisionRepository extends JpaRepository<BudgetRevision, Long> {
+    List<BudgetRevision> findByEventIdOrderByRevision(Long eventId);
+
+    Optional<BudgetRevision> findByEventIdAndRevision(Long eventId, int revision);
+
+    Optional<BudgetRevision> findFirstByEventIdOrderByRevisionDesc(Long eventId);
+
+    // The base a rebuild starts from: the latest snapshot at or before the requested revision.
+    Optional<BudgetRevision> findFirstByEventIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(Long eventId, int revision);
+
+    List<BudgetRevision> findByEventIdAndRevisionBetweenOrderByRevision(Long eventId, int from, int to);
+
+    @Modifying
+    @Query("DELETE FROM BudgetRevision r WHERE r.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    @Query("SELECT COUNT(r) FROM BudgetRevision r WHERE r.eventId = :eventId AND r.revision > "
+            + "(SELECT COALESCE(MAX(s.revision), 0) FROM BudgetRevision s WHERE s.eventId = :eventId AND s.snapshot = true)")
+    long countSinceLastSnapshot(@Param("eventId") Long eventId);
+}
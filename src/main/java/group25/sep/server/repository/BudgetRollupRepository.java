@@ -0,0 +1,40 @@
+package group25.sep.server.repository;
+
+import group25.sep.server.model.BudgetRollupEntry;
+import group25.sep.server.model.BudgetRollupView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BudgetRollupRepository extends JpaRepository<BudgetRollupEntry, Long> {
+    List<BudgetRollupView> findByDimensionOrderByBucket(String dimension);
+
+    @Modifying
+    @Query("DELETE FROM BudgetRollupEntry")
+    int clear();
+
+    // Each refresh statement mirrors the live query of the same dimension in BudgetRepository.
+    @Modifying
+    @Query("INSERT INTO BudgetRollupEntry (dimension, bucket, total, events) "
+            + "SELECT 'status', CAST(e.status AS String), COALESCE(SUM(i.amount), 0), COUNT(DISTINCT e.id) "
+            + "FROM Event e JOIN e.budget b LEFT JOIN b.items i GROUP BY e.status")
+    int insertByStatus();
+
+    @Modifying
+    @Query("INSERT INTO BudgetRollupEntry (dimension, bucket, total, events) "
+            + "SELECT 'month', CAST(YEAR(e.startDate) * 100 + MONTH(e.startDate) AS String), "
+            + "COALESCE(SUM(i.amount), 0), COUNT(DISTINCT e.id) "
+            + "FROM Event e JOIN e.budget b LEFT JOIN b.items i "
+            + "GROUP BY YEAR(e.startDate) * 100 + MONTH(e.startDate)")
+    int insertByMonth();
+
+    @Modifying
+    @Query("INSERT INTO BudgetRollupEntry (dimension, bucket, total, events) "
+            + "SELECT 'type', e.type, COALESCE(SUM(i.amount), 0), COUNT(DISTINCT e.id) "
+            + "FROM Event e JOIN e.budget b LEFT JOIN b.items i GROUP BY e.type")
+    int insertByType();
+}
@@ -2,16 +2,108 @@ package group25.sep.server.repository;
 
 
 import group25.sep.server.model.Event;
+import group25.sep.server.model.EventSearchText;
+import group25.sep.server.model.EventStatusCount;
+import group25.sep.server.model.EventSummary;
 import group25.sep.server.model.enums.EventStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
     Event findByStatus(EventStatus status);
     List<Event> findAllByStatus(EventStatus status);
+    List<EventSummary> findSummariesByStatus(EventStatus status);
+    List<EventSummary> findSummariesBy();
+
+    @Query("SELECT e.status AS status, COUNT(e) AS count FROM Event e GROUP BY e.status")
+    List<EventStatusCount> countGroupByStatus();
+
+    @Query("SELECT e.status FROM Event e WHERE e.id = :id")
+    Optional<EventStatus> findStatusById(@Param("id") Long id);
+
+    @Query("SELECT e.budget.id FROM Event e WHERE e.id = :id")
+    Optional<Long> findBudgetIdById(@Param("id") Long id);
+
+    // Locks the event row, so budget item edits on one event run one at a time from their first read.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.budget.id FROM Event e WHERE e.id = :id")
+    Optional<Long> findLockedBudgetIdById(@Param("id") Long id);
+
+    // For changes below the event (budget items) that must still move its ETag.
+    @Modifying
+    @Query("UPDATE Event e SET e.version = e.version + 1 WHERE e.id = :id")
+    int bumpVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
+
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.budget b LEFT JOIN FETCH b.items WHERE e.id = :id")
+    Optional<Event> findWithBudgetById(@Param("id") Long id);
+
+    // Keyset pagination: each query seeks past the last row of the previous page.
+    // The type argument selects either full events or the scalar EventSummary projection.
+    <T> List<T> findByIdGreaterThan(Long id, Pageable pageable, Class<T> type);
+    <T> List<T> findByIdLessThan(Long id, Pageable pageable, Class<T> type);
+
+    <T> List<T> findByStartDateIsNotNull(Pageable pageable, Class<T> type);
+    <T> List<T> findByStartDateGreaterThanOrStartDateAndIdGreaterThan(Date startDate, Date sameStartDate, Long id, Pageable pageable, Class<T> type);
+    <T> List<T> findByStartDateLessThanOrStartDateAndIdLessThan(Date startDate, Date sameStartDate, Long id, Pageable pageable, Class<T> type);
+    <T> List<T> findByStartDateIsNullAndIdGreaterThan(Long id, Pageable pageable, Class<T> type);
+    <T> List<T> findByStartDateIsNullAndIdLessThan(Long id, Pageable pageable, Class<T> type);
+
+    // Date range queries for calendar views. An event without an end date occupies only its start date.
+    @Query("SELECT e.id AS id, e.name AS name, e.recordID AS recordID, e.location AS location, e.type AS type, "
+            + "e.attendees AS attendees, e.startDate AS startDate, e.endDate AS endDate, e.status AS status, "
+            + "e.estimateBudget AS estimateBudget FROM Event e "
+            + "WHERE (e.endDate IS NOT NULL AND e.startDate <= :to AND e.endDate >= :from) "
+            + "OR (e.endDate IS NULL AND e.startDate BETWEEN :from AND :to) "
+            + "ORDER BY e.startDate, e.id")
+    List<EventSummary> findSummariesActiveBetween(@Param("from") Date from, @Param("to") Date to);
+
+    List<EventSummary> findByStartDateGreaterThanEqualAndStartDateLessThanOrderByStartDateAscIdAsc(Date from, Date until);
+
+    List<EventSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    // Bulk status change: the selection is read under row locks, and the UPDATE repeats its status
+    // predicates so it can never move a row the read did not decide to move.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<EventSummary> findLockedSummariesByIdIn(Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<EventSummary> findLockedSummariesByStatusOrderById(EventStatus status, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Event e SET e.status = :status, e.version = e.version + 1 "
+            + "WHERE e.id IN :ids AND e.status <> :status AND (:from IS NULL OR e.status = :from)")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") EventStatus status,
+                           @Param("from") EventStatus from);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.location AS location, e.type AS type FROM Event e")
+    Stream<EventSearchText> streamSearchText();
+
+    // Items are fetched in the same pass so serializing each event does not load them one query at a time;
+    // ordering by id keeps an event's item rows together for the streamed result.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.budget b LEFT JOIN FETCH b.items ORDER BY e.id")
+    Stream<Event> streamAll();
 
-}
\ No newline at end of file
+}
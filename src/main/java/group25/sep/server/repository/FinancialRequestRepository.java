@@ -3,13 +3,18 @@ package group25.sep.server.repository;
 import group25.sep.server.model.FinancialRequest;
 import group25.sep.server.model.enums.Department;
 import group25.sep.server.model.enums.FinancialRequestStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface FinancialRequestRepository extends JpaRepository<FinancialRequest, Long> {
@@ -26,4 +31,8 @@ public interface FinancialRequestRepository extends JpaRepository<FinancialReque
 
     @Query("SELECT f FROM FinancialRequest f WHERE f.requiredAmount >= :minAmount")
     List<FinancialRequest> findByRequiredAmountGreaterThanEqual(@Param("minAmount") BigDecimal minAmount);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT f FROM FinancialRequest f ORDER BY f.id")
+    Stream<FinancialRequest> streamAll();
 }
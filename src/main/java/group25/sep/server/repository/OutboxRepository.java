@@ -0,0 +1,32 @@
+package group25.sep.server.repository;
+
+import group25.sep.server.model.OutboxRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxRecord, Long> {
+    // Oldest undelivered records first; served by the (delivered_at, id) index.
+    List<OutboxRecord> findByDeliveredAtIsNullOrderByIdAsc(Pageable pageable);
+
+    long countByDeliveredAtIsNull();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxRecord o SET o.deliveredAt = :at WHERE o.id IN :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxRecord o WHERE o.deliveredAt < :cutoff")
+    int deleteDeliveredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
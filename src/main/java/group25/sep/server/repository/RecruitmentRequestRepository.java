@@ -4,10 +4,16 @@ import group25.sep.server.model.RecruitmentRequest;
 import group25.sep.server.model.enums.ContractType;
 import group25.sep.server.model.enums.Department;
 import group25.sep.server.model.enums.RecruitmentStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface RecruitmentRequestRepository extends JpaRepository<RecruitmentRequest, Long> {
@@ -21,4 +27,8 @@ public interface RecruitmentRequestRepository extends JpaRepository<RecruitmentR
     List<RecruitmentRequest> findByJobTitleContainingIgnoreCase(String jobTitle);
 
     List<RecruitmentRequest> findByYearsOfExperienceGreaterThanEqual(Integer yearsOfExperience);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM RecruitmentRequest r ORDER BY r.id")
+    Stream<RecruitmentRequest> streamAll();
 }
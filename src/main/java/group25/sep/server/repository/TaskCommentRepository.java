@@ -0,0 +1,31 @@
+package group25.sep.server.repository;
+
+import group25.sep.server.model.TaskComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
+    // Keyset pagination over (task_id, id), oldest first.
+    List<TaskComment> findByTaskIdAndIdGreaterThan(Long taskId, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // Same predicate as TaskRepository.deleteInBulkByEventId, and no bind parameter per task.
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.taskId IN (SELECT t.id FROM Task t WHERE t.eventId = :eventId)")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
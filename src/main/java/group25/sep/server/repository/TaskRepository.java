@@ -1,15 +1,63 @@
 package group25.sep.server.repository;
 
 import group25.sep.server.model.Task;
+import group25.sep.server.model.TaskRef;
+import group25.sep.server.model.TaskStatusCount;
+import group25.sep.server.model.enums.TaskPriority;
 import group25.sep.server.model.enums.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     List<Task> findByStatus(TaskStatus status);
-    List<Task> findByStatusIn(List<String> statuses);
+    List<Task> findByStatusIn(Collection<TaskStatus> statuses);
     List<Task> findBySubteam(String subteam);
+    List<Task> findByEventId(Long eventId);
+
+    // Task board: column sizes in one GROUP BY, then each column's first rows, highest priority first.
+    // Priority is stored as a string, so its rank is spelled out rather than sorted alphabetically.
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Task t WHERE t.eventId = :eventId GROUP BY t.status")
+    List<TaskStatusCount> countByEventIdGroupByStatus(@Param("eventId") Long eventId);
+
+    @Query("SELECT t FROM Task t WHERE t.eventId = :eventId AND t.status = :status ORDER BY "
+            + "CASE t.priority WHEN group25.sep.server.model.enums.TaskPriority.CRITICAL THEN 0 "
+            + "WHEN group25.sep.server.model.enums.TaskPriority.HIGH THEN 1 "
+            + "WHEN group25.sep.server.model.enums.TaskPriority.MEDIUM THEN 2 "
+            + "WHEN group25.sep.server.model.enums.TaskPriority.LOW THEN 3 ELSE 4 END, t.id")
+    List<Task> findBoardColumn(@Param("eventId") Long eventId, @Param("status") TaskStatus status, Pageable pageable);
+
+    // Open tasks of one priority, oldest first; walked via the (priority, id) index,
+    // or (priority, subteam, id) when filtered to a subteam.
+    List<Task> findByPriorityAndStatusNot(TaskPriority priority, TaskStatus status, Pageable pageable);
+    List<Task> findByPriorityAndSubteamAndStatusNot(TaskPriority priority, String subteam, TaskStatus status, Pageable pageable);
+
+    // Bulk removal: read the affected rows as scalars, then delete them in one statement.
+    List<TaskRef> findRefsByIdIn(Collection<Long> ids);
+    List<TaskRef> findRefsByEventId(Long eventId);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteInBulkByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.eventId = :eventId")
+    int deleteInBulkByEventId(@Param("eventId") Long eventId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAll();
 }
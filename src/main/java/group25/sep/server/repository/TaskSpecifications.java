@@ -0,0 +1,38 @@
+package group25.sep.server.repository;
+
+import group25.sep.server.model.Task;
+import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.model.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Composable task predicates. Each returns null for an empty argument so that
+ * {@link Specification#allOf} skips it.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return statuses == null || statuses.isEmpty() ? null : (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Collection<TaskPriority> priorities) {
+        return priorities == null || priorities.isEmpty() ? null : (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> subteamIs(String subteam) {
+        return subteam == null ? null : (root, query, cb) -> cb.equal(root.get("subteam"), subteam);
+    }
+
+    public static Specification<Task> assigneeIs(String assignee) {
+        return assignee == null ? null : (root, query, cb) -> cb.equal(root.get("assignee"), assignee);
+    }
+
+    public static Specification<Task> eventIdIs(Long eventId) {
+        return eventId == null ? null : (root, query, cb) -> cb.equal(root.get("eventId"), eventId);
+    }
+}
@@ -0,0 +1,18 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.BudgetRevisionDetail;
+import group25.sep.server.model.Budget;
+import group25.sep.server.model.BudgetItem;
+import group25.sep.server.model.BudgetRevision;
+import group25.sep.server.model.enums.BudgetChangeType;
+
+import java.util.List;
+
+public interface BudgetHistoryService {
+    void budgetReplaced(Long eventId, Budget budget);
+    void beforeItemChange(Long eventId, Long budgetId);
+    void itemChanged(Long eventId, Long budgetId, BudgetChangeType type, BudgetItem item);
+    List<BudgetRevision> getRevisions(Long eventId);
+    BudgetRevisionDetail getRevision(Long eventId, int revision);
+    void eventDeleted(Long eventId);
+}
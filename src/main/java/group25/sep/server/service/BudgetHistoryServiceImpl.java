@@ -0,0 +1,169 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.BudgetRevisionDetail;
+import group25.sep.server.model.Budget;
+import group25.sep.server.model.BudgetHeader;
+import group25.sep.server.model.BudgetItem;
+import group25.sep.server.model.BudgetRevision;
+import group25.sep.server.model.BudgetRevisionChange;
+import group25.sep.server.model.enums.BudgetChangeType;
+import group25.sep.server.repository.BudgetItemRepository;
+import group25.sep.server.repository.BudgetRepository;
+import group25.sep.server.repository.BudgetRevisionChangeRepository;
+import group25.sep.server.repository.BudgetRevisionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class BudgetHistoryServiceImpl implements BudgetHistoryService {
+
+    private final BudgetRevisionRepository revisionRepository;
+    private final BudgetRevisionChangeRepository changeRepository;
+    private final BudgetItemRepository budgetItemRepository;
+    private final BudgetRepository budgetRepository;
+    private final int snapshotInterval;
+
+    public BudgetHistoryServiceImpl(BudgetRevisionRepository revisionRepository,
+                                    BudgetRevisionChangeRepository changeRepository,
+                                    BudgetItemRepository budgetItemRepository,
+                                    BudgetRepository budgetRepository,
+                                    @Value("${budget.history.snapshot-interval:20}") int snapshotInterval) {
+        this.revisionRepository = revisionRepository;
+        this.changeRepository = changeRepository;
+        this.budgetItemRepository = budgetItemRepository;
+        this.budgetRepository = budgetRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    // A budget set at creation or replaced by a PATCH arrives whole, so it is stored as a snapshot.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void budgetReplaced(Long eventId, Budget budget) {
+        snapshot(eventId, budget.getDescription(), budget.getItems());
+    }
+
+    // Budgets that predate the history get their current items recorded before the first edit touches them.
+    // Callers hold the event row lock, so two first edits cannot both write revision 1.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void beforeItemChange(Long eventId, Long budgetId) {
+        if (revisionRepository.findFirstByEventIdOrderByRevisionDesc(eventId).isEmpty()) {
+            snapshotCurrent(eventId, budgetId);
+        }
+    }
+
+    // One change row per edit; every snapshotInterval revisions the full item list is stored instead,
+    // which bounds how many deltas a rebuild has to replay.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void itemChanged(Long eventId, Long budgetId, BudgetChangeType type, BudgetItem item) {
+        BudgetRevision latest = revisionRepository.findFirstByEventIdOrderByRevisionDesc(eventId).orElse(null);
+        if (latest == null || revisionRepository.countSinceLastSnapshot(eventId) + 1 >= snapshotInterval) {
+            snapshotCurrent(eventId, budgetId);
+            return;
+        }
+        BudgetRevision revision = revisionRepository.save(BudgetRevision.builder()
+                .eventId(eventId)
+                .revision(latest.getRevision() + 1)
+                .snapshot(false)
+                .build());
+        changeRepository.save(change(revision.getId(), type, item));
+    }
+
+    @Override
+    public List<BudgetRevision> getRevisions(Long eventId) {
+        return revisionRepository.findByEventIdOrderByRevision(eventId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BudgetRevisionDetail getRevision(Long eventId, int revision) {
+        BudgetRevision target = revisionRepository.findByEventIdAndRevision(eventId, revision)
+                .orElseThrow(() -> new NotFoundException("Budget revision", revision));
+        BudgetRevision base = revisionRepository
+                .findFirstByEventIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(eventId, revision)
+                .orElseThrow(() -> new NotFoundException("Budget snapshot for revision", revision));
+
+        List<BudgetRevision> replay = revisionRepository
+                .findByEventIdAndRevisionBetweenOrderByRevision(eventId, base.getRevision(), revision);
+        Map<Long, Integer> order = new HashMap<>();
+        for (BudgetRevision r : replay) {
+            order.put(r.getId(), r.getRevision());
+        }
+        List<BudgetRevisionChange> changes = new ArrayList<>(changeRepository.findByRevisionIdInOrderById(order.keySet()));
+        changes.sort((a, b) -> Integer.compare(order.get(a.getRevisionId()), order.get(b.getRevisionId())));
+
+        Map<Long, BudgetItem> items = new LinkedHashMap<>();
+        for (BudgetRevisionChange change : changes) {
+            if (change.getType() == BudgetChangeType.REMOVE) {
+                items.remove(change.getItemId());
+            } else {
+                items.put(change.getItemId(), BudgetItem.builder()
+                        .id(change.getItemId())
+                        .description(change.getDescription())
+                        .amount(change.getAmount())
+                        .build());
+            }
+        }
+        BigDecimal total = items.values().stream()
+                .map(BudgetItem::getAmount)
+                .filter(amount -> amount != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new BudgetRevisionDetail(eventId, revision, target.getCreatedAt(), base.getDescription(),
+                total, new ArrayList<>(items.values()));
+    }
+
+    // The history goes with the event; nothing can address it once the event id is gone.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void eventDeleted(Long eventId) {
+        changeRepository.deleteByEventId(eventId);
+        revisionRepository.deleteByEventId(eventId);
+    }
+
+    private void snapshotCurrent(Long eventId, Long budgetId) {
+        String description = budgetRepository.findHeaderByEventId(eventId)
+                .map(BudgetHeader::getDescription)
+                .orElse(null);
+        snapshot(eventId, description, budgetItemRepository.findByBudgetIdOrderById(budgetId));
+    }
+
+    private void snapshot(Long eventId, String description, List<BudgetItem> items) {
+        int next = revisionRepository.findFirstByEventIdOrderByRevisionDesc(eventId)
+                .map(r -> r.getRevision() + 1)
+                .orElse(1);
+        BudgetRevision revision = revisionRepository.save(BudgetRevision.builder()
+                .eventId(eventId)
+                .revision(next)
+                .snapshot(true)
+                .description(description)
+                .build());
+        List<BudgetRevisionChange> rows = new ArrayList<>();
+        if (items != null) {
+            for (BudgetItem item : items) {
+                rows.add(change(revision.getId(), BudgetChangeType.ADD, item));
+            }
+        }
+        changeRepository.saveAll(rows);
+    }
+
+    private static BudgetRevisionChange change(Long revisionId, BudgetChangeType type, BudgetItem item) {
+        boolean removed = type == BudgetChangeType.REMOVE;
+        return BudgetRevisionChange.builder()
+                .revisionId(revisionId)
+                .type(type)
+                .itemId(item.getId())
+                .description(removed ? null : item.getDescription())
+                .amount(removed ? null : item.getAmount())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package group25.sep.server.service;
+
+import group25.sep.server.repository.BudgetRollupRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rewrites the budget_rollup table in its own transaction, so it has committed by the time
+ * {@link BudgetRollups} lets the next reader in.
+ */
+@Component
+public class BudgetRollupRebuild {
+
+    private final BudgetRollupRepository rollupRepository;
+
+    public BudgetRollupRebuild(BudgetRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void run() {
+        rollupRepository.clear();
+        rollupRepository.insertByStatus();
+        rollupRepository.insertByMonth();
+        rollupRepository.insertByType();
+    }
+}
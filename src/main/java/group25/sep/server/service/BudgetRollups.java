@@ -0,0 +1,45 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.BudgetRollupView;
+import group25.sep.server.repository.BudgetRollupRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The budget_rollup summary table. Budget and event writes mark it stale once they commit; the next
+ * summary read rebuilds it with four set-based statements, so writers never pay for the rebuild.
+ */
+@Component
+public class BudgetRollups {
+
+    private final BudgetRollupRepository rollupRepository;
+    private final BudgetRollupRebuild rebuild;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    public BudgetRollups(BudgetRollupRepository rollupRepository, BudgetRollupRebuild rebuild) {
+        this.rollupRepository = rollupRepository;
+        this.rebuild = rebuild;
+    }
+
+    public void markStale() {
+        // Marking before commit would let a concurrent rebuild clear the flag without seeing this write.
+        AfterCommit.run(() -> stale.set(true));
+    }
+
+    public List<BudgetRollupView> read(String dimension) {
+        // The lock is held outside the rebuild's transaction, so the next reader only gets in after it commits.
+        synchronized (this) {
+            if (stale.getAndSet(false)) {
+                try {
+                    rebuild.run();
+                } catch (RuntimeException e) {
+                    stale.set(true);
+                    throw e;
+                }
+            }
+        }
+        return rollupRepository.findByDimensionOrderByBucket(dimension);
+    }
+}
@@ -1,9 +1,22 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.BudgetRollupReport;
+import group25.sep.server.dto.BudgetVarianceFilter;
 import group25.sep.server.model.Budget;
-import group25.sep.server.model.Event;
+import group25.sep.server.model.BudgetHeader;
+import group25.sep.server.model.BudgetItem;
+import group25.sep.server.model.BudgetVariance;
+import org.springframework.data.domain.Slice;
 
 public interface BudgetService {
     Budget getBudgetById(Long id);
+    Budget getEventBudget(Long eventId);
+    BudgetHeader getEventBudgetHeader(Long eventId);
     Budget createEventBudget(Budget budgetRequest);
+    void deleteBudget(Long id);
+    BudgetItem addItem(Long eventId, BudgetItem item);
+    BudgetItem updateItem(Long eventId, Long itemId, BudgetItem item);
+    void removeItem(Long eventId, Long itemId);
+    BudgetRollupReport getRollup(String by, boolean summary);
+    Slice<BudgetVariance> getVariance(BudgetVarianceFilter filter, Integer page, Integer size);
 }
@@ -1,32 +1,71 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.BudgetRollupReport;
+import group25.sep.server.dto.BudgetRollupRow;
+import group25.sep.server.dto.BudgetVarianceFilter;
 import group25.sep.server.model.Budget;
+import group25.sep.server.model.BudgetHeader;
 import group25.sep.server.model.BudgetItem;
+import group25.sep.server.model.BudgetRollupView;
+import group25.sep.server.model.BudgetVariance;
+import group25.sep.server.model.enums.BudgetChangeType;
+import group25.sep.server.repository.BudgetItemRepository;
 import group25.sep.server.repository.BudgetRepository;
+import group25.sep.server.repository.EventRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 @Service
 public class BudgetServiceImpl implements BudgetService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BudgetRepository budgetRepository;
+    private final BudgetItemRepository budgetItemRepository;
+    private final EventRepository eventRepository;
+    private final EventCache eventCache;
+    private final BudgetRollups rollups;
+    private final BudgetHistoryService history;
 
-    public BudgetServiceImpl(BudgetRepository budgetRepository) {
+    public BudgetServiceImpl(BudgetRepository budgetRepository, BudgetItemRepository budgetItemRepository,
+                             EventRepository eventRepository, EventCache eventCache, BudgetRollups rollups,
+                             BudgetHistoryService history) {
         this.budgetRepository = budgetRepository;
+        this.budgetItemRepository = budgetItemRepository;
+        this.eventRepository = eventRepository;
+        this.eventCache = eventCache;
+        this.rollups = rollups;
+        this.history = history;
     }
 
     @Override
     public Budget getBudgetById(Long id) {
         return budgetRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        "Budget not found with id: " + id
-                ));
+                .orElseThrow(() -> new NotFoundException("Budget", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Budget getEventBudget(Long eventId) {
+        return budgetRepository.findWithItemsByEventId(eventId)
+                .orElseThrow(() -> new NotFoundException("Budget for event", eventId));
+    }
+
+    @Override
+    public BudgetHeader getEventBudgetHeader(Long eventId) {
+        return budgetRepository.findHeaderByEventId(eventId)
+                .orElseThrow(() -> new NotFoundException("Budget for event", eventId));
     }
 
     @Override
@@ -36,8 +75,141 @@ public class BudgetServiceImpl implements BudgetService {
         }
 
         budgetRequest.setTotalAmount(calculateTotal(budgetRequest.getItems()));
+        if (budgetRequest.getItems() != null) {
+            // Hibernate rewrites the collection in place when the owning event is merged in the same transaction.
+            budgetRequest.setItems(new ArrayList<>(budgetRequest.getItems()));
+        }
+
+        Budget saved = budgetRepository.save(budgetRequest);
+        rollups.markStale();
+        return saved;
+    }
+
+    // Two statements regardless of item count; callers must already have dropped any event referencing it.
+    @Override
+    @Transactional
+    public void deleteBudget(Long id) {
+        budgetRepository.deleteItemsByBudgetId(id);
+        budgetRepository.deleteInBulkById(id);
+        rollups.markStale();
+    }
+
+    // Item edits write the item row, the budget total and the event version; other items are never read.
+    @Override
+    @Transactional
+    public BudgetItem addItem(Long eventId, BudgetItem item) {
+        Long budgetId = budgetIdOf(eventId);
+        requireAmount(item);
+        history.beforeItemChange(eventId, budgetId);
+        item.setId(null);
+        item.setBudget(budgetRepository.getReferenceById(budgetId));
+        BudgetItem saved = budgetItemRepository.save(item);
+        itemsChanged(eventId, budgetId, saved.getAmount());
+        history.itemChanged(eventId, budgetId, BudgetChangeType.ADD, saved);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public BudgetItem updateItem(Long eventId, Long itemId, BudgetItem item) {
+        Long budgetId = budgetIdOf(eventId);
+        requireAmount(item);
+        BudgetItem existing = budgetItemRepository.findByIdAndBudgetId(itemId, budgetId)
+                .orElseThrow(() -> new NotFoundException("Budget item", itemId));
+        history.beforeItemChange(eventId, budgetId);
+        BigDecimal delta = item.getAmount().subtract(amountOf(existing));
+        existing.setDescription(item.getDescription());
+        existing.setAmount(item.getAmount());
+        itemsChanged(eventId, budgetId, delta);
+        history.itemChanged(eventId, budgetId, BudgetChangeType.UPDATE, existing);
+        return existing;
+    }
+
+    @Override
+    @Transactional
+    public void removeItem(Long eventId, Long itemId) {
+        Long budgetId = budgetIdOf(eventId);
+        BudgetItem existing = budgetItemRepository.findByIdAndBudgetId(itemId, budgetId)
+                .orElseThrow(() -> new NotFoundException("Budget item", itemId));
+        history.beforeItemChange(eventId, budgetId);
+        budgetItemRepository.delete(existing);
+        itemsChanged(eventId, budgetId, amountOf(existing).negate());
+        history.itemChanged(eventId, budgetId, BudgetChangeType.REMOVE, existing);
+    }
+
+    private Long budgetIdOf(Long eventId) {
+        return eventRepository.findLockedBudgetIdById(eventId)
+                .orElseThrow(() -> new NotFoundException("Budget for event", eventId));
+    }
+
+    private void itemsChanged(Long eventId, Long budgetId, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            budgetRepository.addToTotal(budgetId, delta);
+        }
+        eventRepository.bumpVersion(eventId);
+        eventCache.invalidate(eventId);
+        rollups.markStale();
+    }
+
+    @Override
+    public BudgetRollupReport getRollup(String by, boolean summary) {
+        String dimension = by == null ? "status" : by.toLowerCase(Locale.ROOT);
+        List<BudgetRollupView> views = switch (dimension) {
+            case "status", "month", "type" -> summary ? rollups.read(dimension) : liveRollup(dimension);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid rollup dimension: " + by);
+        };
+        BigDecimal total = BigDecimal.ZERO;
+        List<BudgetRollupRow> rows = new ArrayList<>(views.size());
+        for (BudgetRollupView view : views) {
+            BigDecimal amount = view.getTotal() == null ? BigDecimal.ZERO : view.getTotal();
+            rows.add(new BudgetRollupRow(bucketKey(dimension, view.getBucket()), amount, view.getEvents()));
+            total = total.add(amount);
+        }
+        return new BudgetRollupReport(dimension, summary, total, rows);
+    }
+
+    @Override
+    public Slice<BudgetVariance> getVariance(BudgetVarianceFilter filter, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageNumber < 0 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+        return budgetRepository.findVariance(filter.getThreshold(), filter.getStatus(),
+                filter.isOver(), filter.isUnder(), PageRequest.of(pageNumber, pageSize));
+    }
+
+    private List<BudgetRollupView> liveRollup(String dimension) {
+        return switch (dimension) {
+            case "month" -> budgetRepository.rollupByMonth();
+            case "type" -> budgetRepository.rollupByType();
+            default -> budgetRepository.rollupByStatus();
+        };
+    }
+
+    // Months come back as yyyyMM, a number from the live query and a string from the summary table.
+    private static String bucketKey(String dimension, Object bucket) {
+        if (bucket == null) {
+            return null;
+        }
+        if ("month".equals(dimension)) {
+            int yearMonth = Integer.parseInt(bucket.toString());
+            return String.format("%04d-%02d", yearMonth / 100, yearMonth % 100);
+        }
+        return bucket.toString();
+    }
+
+    private static void requireAmount(BudgetItem item) {
+        if (item == null || item.getAmount() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Budget item amount must not be null");
+        }
+    }
 
-        return budgetRepository.save(budgetRequest);
+    private static BigDecimal amountOf(BudgetItem item) {
+        return item.getAmount() == null ? BigDecimal.ZERO : item.getAmount();
     }
 
     private BigDecimal calculateTotal(List<BudgetItem> items) {
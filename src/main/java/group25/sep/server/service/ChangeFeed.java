@@ -0,0 +1,202 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.ChangeNotification;
+import group25.sep.server.model.Event;
+import group25.sep.server.model.Task;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes event and task changes to Server-Sent Events subscribers.
+ * Connections are async servlet responses, so idle subscribers hold no threads. Each subscriber has
+ * a small bounded queue drained by a fixed pool of sender threads, one subscriber at a time; writers
+ * only offer to those queues and never wait. A subscriber whose queue overflows is too slow to keep
+ * up and is disconnected, so it cannot hold up anyone else. Changes made inside a transaction are
+ * sent only after it commits.
+ */
+@Component
+public class ChangeFeed implements DisposableBean {
+
+    public static final String EVENT = "event";
+    public static final String TASK = "task";
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final Long eventId;
+        final String subteam;
+        final BlockingQueue<ChangeNotification> pending;
+        // Set while a sender thread owns this subscriber, so its changes go out in order.
+        final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Long eventId, String subteam, int capacity) {
+            this.emitter = emitter;
+            this.eventId = eventId;
+            this.subteam = subteam;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+
+        // eventId matches the event itself and its tasks; subteam only ever matches tasks.
+        boolean wants(ChangeNotification change) {
+            if (subteam != null && !(TASK.equals(change.getEntity()) && subteam.equalsIgnoreCase(change.getSubteam()))) {
+                return false;
+            }
+            return eventId == null || eventId.equals(change.getEventId());
+        }
+    }
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+
+    public ChangeFeed(@Value("${changes.sse.timeout:30m}") Duration timeout,
+                      @Value("${changes.sse.queue-capacity:64}") int queueCapacity,
+                      @Value("${changes.sse.sender-threads:4}") int senderThreads) {
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long eventId, String subteam) {
+        return register(new SseEmitter(timeoutMillis), eventId, subteam);
+    }
+
+    SseEmitter register(SseEmitter emitter, Long eventId, String subteam) {
+        Subscriber subscriber = new Subscriber(emitter, eventId, subteam, queueCapacity);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public void eventChanged(String change, Event event) {
+        publish(ChangeNotification.builder()
+                .entity(EVENT)
+                .change(change)
+                .id(event.getId())
+                .status(event.getStatus() == null ? null : event.getStatus().name())
+                .version(event.getVersion())
+                .eventId(event.getId())
+                .build());
+    }
+
+    public void taskChanged(String change, Task task) {
+        publish(ChangeNotification.builder()
+                .entity(TASK)
+                .change(change)
+                .id(task.getId())
+                .status(task.getStatus() == null ? null : task.getStatus().name())
+                .eventId(task.getEventId())
+                .subteam(task.getSubteam())
+                .build());
+    }
+
+    public void publish(ChangeNotification change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(change);
+                }
+            });
+        } else {
+            dispatch(change);
+        }
+    }
+
+    private void dispatch(ChangeNotification change) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.wants(change)) {
+                continue;
+            }
+            if (subscriber.pending.offer(change)) {
+                schedule(subscriber);
+            } else {
+                // Too far behind to catch up; the client can reconnect and reload.
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        ChangeNotification change;
+        while (subscribers.contains(subscriber) && (change = subscriber.pending.poll()) != null) {
+            try {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(Objects.requireNonNullElse(change.getEntity(), "change"))
+                        .data(change, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; drop it rather than retrying.
+                subscribers.remove(subscriber);
+            }
+        }
+        if (!subscribers.contains(subscriber)) {
+            // Disconnected while queued or sending; finish the response here, off the writer's thread.
+            subscriber.pending.clear();
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // Already completed by the client side.
+            }
+            return;
+        }
+        subscriber.sending.set(false);
+        // A change offered after the last poll but before the flag cleared still needs sending.
+        if (!subscriber.pending.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    // An overflowing queue means a sender is already scheduled for this subscriber; it completes the response.
+    private void disconnect(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package group25.sep.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import group25.sep.server.dto.EventCacheStats;
+import group25.sep.server.model.Event;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of event details, keyed by event id.
+ * Size-limited (W-TinyLFU eviction) with a time-to-live so stale entries age out
+ * even if an invalidation is ever missed.
+ */
+@Component
+public class EventCache {
+
+    private final Cache<Long, Event> cache;
+
+    public EventCache(@Value("${events.cache.max-size:10000}") long maxSize,
+                      @Value("${events.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached event, loading it on a miss. A null result from the loader is not cached.
+     */
+    public Event get(Long id, Function<Long, Event> loader) {
+        return cache.get(id, loader);
+    }
+
+    /** Caches a freshly written event once its transaction commits, so a rollback never leaves it behind. */
+    public void put(Event event) {
+        if (event != null && event.getId() != null) {
+            AfterCommit.run(() -> cache.put(event.getId(), event));
+        }
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A concurrent reader may re-cache the old row before this transaction commits.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    public EventCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new EventCacheStats(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate(),
+                cache.estimatedSize());
+    }
+}
@@ -0,0 +1,63 @@
+package group25.sep.server.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position of the last row returned by a keyset page.
+ * Encoded as an opaque base64 token of the form {@code sort:direction:startMillis:id}.
+ */
+final class EventCursor {
+
+    private final String sort;
+    private final boolean ascending;
+    private final Date startDate;
+    private final Long id;
+
+    EventCursor(String sort, boolean ascending, Date startDate, Long id) {
+        this.sort = sort;
+        this.ascending = ascending;
+        this.startDate = startDate;
+        this.id = id;
+    }
+
+    String getSort() {
+        return sort;
+    }
+
+    boolean isAscending() {
+        return ascending;
+    }
+
+    Date getStartDate() {
+        return startDate;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String encode() {
+        String raw = sort + ":" + (ascending ? "asc" : "desc") + ":"
+                + (startDate == null ? "" : startDate.getTime()) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException(raw);
+            }
+            Date startDate = parts[2].isEmpty() ? null : new Date(Long.parseLong(parts[2]));
+            return new EventCursor(parts[0], "asc".equals(parts[1]), startDate, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.Event;
+import group25.sep.server.model.EventSummary;
+import group25.sep.server.repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of event date ranges per location, used for scheduling conflict checks.
+ * Loaded once at startup and kept current by {@link EventServiceImpl} on create, patch and delete;
+ * those changes apply when the writing transaction commits.
+ * An event without an end date occupies only its start date; events without a location or start date are not indexed.
+ */
+@Component
+public class EventScheduleIndex {
+
+    private static final class Slot {
+        final String location;
+        final long start;
+
+        Slot(String location, long start) {
+            this.location = location;
+            this.start = start;
+        }
+    }
+
+    private final EventRepository eventRepository;
+    private final Map<String, IntervalTree> byLocation = new HashMap<>();
+    private final Map<Long, Slot> slots = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventScheduleIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<EventSummary> events = eventRepository.findSummariesBy();
+        lock.writeLock().lock();
+        try {
+            byLocation.clear();
+            slots.clear();
+            for (EventSummary event : events) {
+                index(event.getId(), event.getLocation(), event.getStartDate(), event.getEndDate());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Event event) {
+        AfterCommit.run(() -> apply(event));
+    }
+
+    public void remove(Long id) {
+        AfterCommit.run(() -> unapply(id));
+    }
+
+    private void apply(Event event) {
+        lock.writeLock().lock();
+        try {
+            unindex(event.getId());
+            index(event.getId(), event.getLocation(), event.getStartDate(), event.getEndDate());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unapply(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of events at {@code location} whose dates overlap [from, to], in start date order.
+     * A null {@code to} is treated as {@code from}.
+     */
+    public List<Long> findOverlapping(String location, Date from, Date to) {
+        List<Long> ids = new ArrayList<>();
+        String key = normalize(location);
+        if (key == null || from == null) {
+            return ids;
+        }
+        long end = (to == null ? from : to).getTime();
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = byLocation.get(key);
+            if (tree != null) {
+                tree.collectOverlapping(from.getTime(), end, ids);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    private void index(Long id, String location, Date start, Date end) {
+        String key = normalize(location);
+        if (id == null || key == null || start == null) {
+            return;
+        }
+        long startMillis = start.getTime();
+        long endMillis = end == null ? startMillis : Math.max(startMillis, end.getTime());
+        byLocation.computeIfAbsent(key, k -> new IntervalTree()).insert(id, startMillis, endMillis);
+        slots.put(id, new Slot(key, startMillis));
+    }
+
+    private void unindex(Long id) {
+        Slot slot = id == null ? null : slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        IntervalTree tree = byLocation.get(slot.location);
+        tree.remove(id, slot.start);
+        if (tree.size() == 0) {
+            byLocation.remove(slot.location);
+        }
+    }
+
+    private static String normalize(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+}
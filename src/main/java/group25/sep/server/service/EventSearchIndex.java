@@ -0,0 +1,203 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.Event;
+import group25.sep.server.model.EventSearchText;
+import group25.sep.server.repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over event name, type, location and description.
+ * Loaded once at startup and kept current by {@link EventServiceImpl} on create and delete.
+ * Results are ranked by field-weighted term frequency times inverse document frequency.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float TYPE_WEIGHT = 2f;
+    private static final float LOCATION_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    /** Ids of one page of hits, best first, plus the number of documents that matched at all. */
+    public static final class Hits {
+        private final List<Long> ids;
+        private final long total;
+
+        public Hits(List<Long> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    private final EventRepository eventRepository;
+    // term -> (event id -> weighted term frequency)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> termsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventSearchIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        lock.writeLock().lock();
+        try (Stream<EventSearchText> rows = eventRepository.streamSearchText()) {
+            postings.clear();
+            termsById.clear();
+            rows.forEach(row -> index(row.getId(), row.getName(), row.getType(), row.getLocation(), row.getDescription()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Writes reach the index only once their transaction commits.
+    public void put(Event event) {
+        AfterCommit.run(() -> apply(event));
+    }
+
+    public void remove(Long id) {
+        AfterCommit.run(() -> unapply(id));
+    }
+
+    private void apply(Event event) {
+        lock.writeLock().lock();
+        try {
+            unindex(event.getId());
+            index(event.getId(), event.getName(), event.getType(), event.getLocation(), event.getDescription());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unapply(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Deepest hit a search can page to; callers reject pages that end past it. */
+    public static final int MAX_RANKED_HITS = 10_000;
+
+    /**
+     * Ranks every event containing at least one query term and returns the ids on the requested page.
+     * Only the top {@code (page + 1) * size} hits are kept while scoring, never more than {@link #MAX_RANKED_HITS}.
+     */
+    public Hits search(String query, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        Map<Long, Float> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documents = termsById.size();
+            for (String term : terms) {
+                Map<Long, Float> docs = postings.get(term);
+                if (docs == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (double) documents / docs.size());
+                docs.forEach((id, tf) -> scores.merge(id, tf * idf, Float::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long end = ((long) page + 1) * size;
+        if (end > MAX_RANKED_HITS) {
+            return new Hits(new ArrayList<>(), scores.size());
+        }
+        int keep = (int) end;
+        // Min-heap on score (ties broken towards lower ids) holding the best `keep` hits.
+        PriorityQueue<Map.Entry<Long, Float>> top = new PriorityQueue<>(
+                (a, b) -> a.getValue().equals(b.getValue())
+                        ? Long.compare(b.getKey(), a.getKey())
+                        : Float.compare(a.getValue(), b.getValue()));
+        for (Map.Entry<Long, Float> hit : scores.entrySet()) {
+            top.offer(hit);
+            if (top.size() > keep) {
+                top.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+
+        int from = Math.min(page * size, ranked.size());
+        return new Hits(new ArrayList<>(ranked.subList(from, ranked.size())), scores.size());
+    }
+
+    private void index(Long id, String name, String type, String location, String description) {
+        if (id == null) {
+            return;
+        }
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, name, NAME_WEIGHT);
+        addField(weights, type, TYPE_WEIGHT);
+        addField(weights, location, LOCATION_WEIGHT);
+        addField(weights, description, DESCRIPTION_WEIGHT);
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        termsById.put(id, weights.keySet());
+    }
+
+    private void unindex(Long id) {
+        Set<String> terms = id == null ? null : termsById.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> docs = postings.get(term);
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -1,17 +1,41 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.BulkStatusRequest;
+import group25.sep.server.dto.BulkStatusResult;
+import group25.sep.server.dto.CursorPage;
+import group25.sep.server.dto.EventCacheStats;
 import group25.sep.server.dto.EventPatchRequest;
+import group25.sep.server.dto.SearchPage;
 import group25.sep.server.model.Event;
+import group25.sep.server.model.EventSummary;
+import group25.sep.server.model.enums.EventStatus;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 public interface EventService {
     Event createEvent(Event event);
+    Event createEvent(Event event, boolean rejectConflicts);
     Event getEventById(Long id);
+    void requireEvent(Long id);
 
     List<Event> getEventsByStatus(String status);
+    List<EventSummary> getEventSummariesByStatus(String status);
     List<Event> getAllEvents();
+    List<EventSummary> getEventsActiveBetween(Date from, Date to);
+    List<EventSummary> getEventsStartingThisWeek();
+    List<EventSummary> getConflictingEvents(String location, Date from, Date to);
+    SearchPage<EventSummary> searchEvents(String query, Integer page, Integer size);
+    CursorPage<Event> getEventPage(String cursor, Integer size, String sort, String direction);
+    CursorPage<EventSummary> getEventSummaryPage(String cursor, Integer size, String sort, String direction);
     Event updateEventStatus(Long id, String status);
+    Event updateEventStatus(Long id, String status, Long expectedVersion);
+    BulkStatusResult updateEventStatuses(BulkStatusRequest request);
     void deleteEvent(Long id);
+    void deleteEvent(Long id, boolean cascade);
     Event updateEventPartial(Long eventId, EventPatchRequest request);
+    Event updateEventPartial(Long eventId, EventPatchRequest request, Long expectedVersion);
+    EventCacheStats getCacheStats();
+    Map<EventStatus, Long> getStatusCounts();
 }
\ No newline at end of file
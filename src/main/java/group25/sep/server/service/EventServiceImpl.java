@@ -1,45 +1,137 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.BulkStatusRequest;
+import group25.sep.server.dto.BulkStatusResult;
+import group25.sep.server.dto.ChangeNotification;
+import group25.sep.server.dto.CursorPage;
+import group25.sep.server.dto.EventCacheStats;
 import group25.sep.server.dto.EventPatchRequest;
+import group25.sep.server.dto.SearchPage;
 import group25.sep.server.model.Budget;
 import group25.sep.server.model.Event;
+import group25.sep.server.model.EventSummary;
 import group25.sep.server.model.enums.EventStatus;
 import group25.sep.server.repository.EventRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import group25.sep.server.service.BudgetService;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 public class EventServiceImpl implements EventService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_EVENTS = 5000;
+    private static final String SORT_BY_ID = "id";
+    private static final String SORT_BY_START_DATE = "startDate";
+
     private final EventRepository eventRepository;
     private final BudgetService budgetService;
+    private final EventCache eventCache;
+    private final EventScheduleIndex scheduleIndex;
+    private final EventStatusCounters statusCounters;
+    private final EventSearchIndex searchIndex;
+    private final ChangeFeed changeFeed;
+    private final Outbox outbox;
+    private final TaskService taskService;
+    private final BudgetRollups budgetRollups;
+    private final BudgetHistoryService budgetHistory;
 
-    public EventServiceImpl(EventRepository eventRepository, BudgetService budgetService) {
+    public EventServiceImpl(EventRepository eventRepository, BudgetService budgetService, EventCache eventCache,
+                            EventScheduleIndex scheduleIndex, EventStatusCounters statusCounters,
+                            EventSearchIndex searchIndex, ChangeFeed changeFeed, Outbox outbox,
+                            TaskService taskService, BudgetRollups budgetRollups,
+                            BudgetHistoryService budgetHistory) {
         this.eventRepository = eventRepository;
         this.budgetService = budgetService;
+        this.eventCache = eventCache;
+        this.scheduleIndex = scheduleIndex;
+        this.statusCounters = statusCounters;
+        this.searchIndex = searchIndex;
+        this.changeFeed = changeFeed;
+        this.outbox = outbox;
+        this.taskService = taskService;
+        this.budgetRollups = budgetRollups;
+        this.budgetHistory = budgetHistory;
     }
 
     @Override
+    @Transactional
     public Event createEvent(Event event) {
+        return createEvent(event, false);
+    }
+
+    @Override
+    @Transactional
+    public Event createEvent(Event event, boolean rejectConflicts) {
         if (event == null || event.getName() == null || event.getName().trim().isEmpty() || event.getStatus() == null) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "Event, event name, and status must not be null or empty"
             );
         }
-        return eventRepository.save(event);
+        if (rejectConflicts) {
+            List<Long> conflicts = scheduleIndex.findOverlapping(event.getLocation(), event.getStartDate(), event.getEndDate());
+            if (!conflicts.isEmpty()) {
+                throw new ResponseStatusException(
+                        HttpStatus.CONFLICT,
+                        "Event overlaps existing events at " + event.getLocation() + ": " + conflicts
+                );
+            }
+        }
+        Event saved = eventRepository.save(event);
+        eventCache.put(saved);
+        scheduleIndex.put(saved);
+        statusCounters.added(saved.getStatus());
+        if (saved.getBudget() != null) {
+            budgetRollups.markStale();
+            budgetHistory.budgetReplaced(saved.getId(), saved.getBudget());
+        }
+        searchIndex.put(saved);
+        changeFeed.eventChanged(ChangeFeed.CREATED, saved);
+        return saved;
     }
 
+    // No transaction here: a cache hit must not take a connection. On a miss the loader's single
+    // repository query runs in its own read-only transaction.
     @Override
     public Event getEventById(Long id) {
-        return eventRepository.findById(id)
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found with id: " + id)
-                );
+        Event event = eventCache.get(id, this::loadEvent);
+        if (event == null) {
+            throw new NotFoundException("Event", id);
+        }
+        return event;
+    }
+
+    // Existence only: no fetch and no cache fill.
+    @Override
+    public void requireEvent(Long id) {
+        if (!eventRepository.existsById(id)) {
+            throw new NotFoundException("Event", id);
+        }
+    }
+
+    // Cached events outlive the session that loaded them, so the budget and its items are fetched up front.
+    private Event loadEvent(Long id) {
+        return eventRepository.findWithBudgetById(id).orElse(null);
     }
     @Override
     public List<Event> getEventsByStatus(String status) {
@@ -55,22 +147,192 @@ public class EventServiceImpl implements EventService {
         }
     }
 
+    @Override
+    public List<EventSummary> getEventSummariesByStatus(String status) {
+        try {
+            return eventRepository.findSummariesByStatus(EventStatus.valueOf(status.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Invalid event status: " + status
+            );
+        }
+    }
+
     @Override
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
 
     @Override
+    public List<EventSummary> getEventsActiveBetween(Date from, Date to) {
+        if (from == null || to == null || from.after(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range requires from <= to");
+        }
+        return eventRepository.findSummariesActiveBetween(from, to);
+    }
+
+    @Override
+    public List<EventSummary> getEventsStartingThisWeek() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate monday = LocalDate.now(zone).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        Date from = Date.from(monday.atStartOfDay(zone).toInstant());
+        Date until = Date.from(monday.plusWeeks(1).atStartOfDay(zone).toInstant());
+        return eventRepository.findByStartDateGreaterThanEqualAndStartDateLessThanOrderByStartDateAscIdAsc(from, until);
+    }
+
+    @Override
+    public List<EventSummary> getConflictingEvents(String location, Date from, Date to) {
+        if (location == null || location.isBlank() || from == null || (to != null && from.after(to))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Conflict check requires a location and from <= to");
+        }
+        List<Long> ids = scheduleIndex.findOverlapping(location, from, to);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Keep the index's start date order.
+        List<EventSummary> events = new ArrayList<>(eventRepository.findSummariesByIdIn(ids));
+        events.sort(Comparator.comparingInt(e -> ids.indexOf(e.getId())));
+        return events;
+    }
+
+    @Override
+    public SearchPage<EventSummary> searchEvents(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query must not be empty");
+        }
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageNumber < 0 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+
+        if (((long) pageNumber + 1) * pageSize > EventSearchIndex.MAX_RANKED_HITS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Search results can only be paged through the first " + EventSearchIndex.MAX_RANKED_HITS + " hits"
+            );
+        }
+        EventSearchIndex.Hits hits = searchIndex.search(query, pageNumber, pageSize);
+        List<Long> ids = hits.getIds();
+        List<EventSummary> items = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            items.addAll(eventRepository.findSummariesByIdIn(ids));
+            // Keep the relevance order.
+            items.sort(Comparator.comparingInt(e -> ids.indexOf(e.getId())));
+        }
+        return new SearchPage<>(items, pageNumber, items.size(), hits.getTotal());
+    }
+
+    @Override
+    public CursorPage<Event> getEventPage(String cursor, Integer size, String sort, String direction) {
+        return page(cursor, size, sort, direction, Event.class, Event::getId, Event::getStartDate);
+    }
+
+    @Override
+    public CursorPage<EventSummary> getEventSummaryPage(String cursor, Integer size, String sort, String direction) {
+        return page(cursor, size, sort, direction, EventSummary.class, EventSummary::getId, EventSummary::getStartDate);
+    }
+
+    private <T> CursorPage<T> page(String cursor, Integer size, String sort, String direction,
+                                   Class<T> type, Function<T, Long> idOf, Function<T, Date> startDateOf) {
+        if (!SORT_BY_ID.equals(sort) && !SORT_BY_START_DATE.equals(sort)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort: " + sort);
+        }
+        if (!"asc".equalsIgnoreCase(direction) && !"desc".equalsIgnoreCase(direction)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid direction: " + direction);
+        }
+        boolean ascending = "asc".equalsIgnoreCase(direction);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        EventCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = EventCursor.decode(cursor);
+            if (!after.getSort().equals(sort) || after.isAscending() != ascending) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match the requested sort");
+            }
+        }
+
+        // Fetch one extra row to find out whether another page follows.
+        List<T> rows = SORT_BY_ID.equals(sort)
+                ? seekById(after, pageSize + 1, ascending, type)
+                : seekByStartDate(after, pageSize + 1, ascending, type);
+
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            T last = rows.get(pageSize - 1);
+            Date lastStart = SORT_BY_START_DATE.equals(sort) ? startDateOf.apply(last) : null;
+            next = new EventCursor(sort, ascending, lastStart, idOf.apply(last)).encode();
+        }
+        return new CursorPage<>(rows, next, rows.size());
+    }
+
+    private <T> List<T> seekById(EventCursor after, int limit, boolean ascending, Class<T> type) {
+        if (ascending) {
+            Pageable page = PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id"));
+            return eventRepository.findByIdGreaterThan(after == null ? Long.MIN_VALUE : after.getId(), page, type);
+        }
+        Pageable page = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "id"));
+        return eventRepository.findByIdLessThan(after == null ? Long.MAX_VALUE : after.getId(), page, type);
+    }
+
+    private <T> List<T> seekByStartDate(EventCursor after, int limit, boolean ascending, Class<T> type) {
+        Sort.Direction dir = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        List<T> rows = new ArrayList<>();
+
+        // Events with a start date come first, ordered by (start_date, id).
+        if (after == null || after.getStartDate() != null) {
+            Pageable page = PageRequest.of(0, limit, Sort.by(dir, "startDate", "id"));
+            if (after == null) {
+                rows.addAll(eventRepository.findByStartDateIsNotNull(page, type));
+            } else if (ascending) {
+                rows.addAll(eventRepository.findByStartDateGreaterThanOrStartDateAndIdGreaterThan(
+                        after.getStartDate(), after.getStartDate(), after.getId(), page, type));
+            } else {
+                rows.addAll(eventRepository.findByStartDateLessThanOrStartDateAndIdLessThan(
+                        after.getStartDate(), after.getStartDate(), after.getId(), page, type));
+            }
+        }
+
+        // Events without a start date follow, ordered by id.
+        if (rows.size() < limit) {
+            Long afterId = after != null && after.getStartDate() == null ? after.getId() : null;
+            Pageable page = PageRequest.of(0, limit - rows.size(), Sort.by(dir, "id"));
+            rows.addAll(ascending
+                    ? eventRepository.findByStartDateIsNullAndIdGreaterThan(afterId == null ? Long.MIN_VALUE : afterId, page, type)
+                    : eventRepository.findByStartDateIsNullAndIdLessThan(afterId == null ? Long.MAX_VALUE : afterId, page, type));
+        }
+        return rows;
+    }
+
+    @Override
+    @Transactional
     public Event updateEventStatus(Long id, String status) {
+        return updateEventStatus(id, status, null);
+    }
+
+    @Override
+    @Transactional
+    public Event updateEventStatus(Long id, String status, Long expectedVersion) {
         Event event = eventRepository.findById(id)
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found with id: " + id)
-                );
+                .orElseThrow(() -> new NotFoundException("Event", id));
+        checkVersion(event, expectedVersion);
 
         try {
+            EventStatus oldStatus = event.getStatus();
             EventStatus newStatus = EventStatus.valueOf(status.toUpperCase());
             event.setStatus(newStatus);
-            return eventRepository.save(event);
+            Event saved = saveVersioned(event);
+            outbox.statusChanged(ChangeFeed.EVENT, id, id, oldStatus, newStatus);
+            eventCache.invalidate(id);
+            statusCounters.moved(oldStatus, saved.getStatus());
+            budgetRollups.markStale();
+            changeFeed.eventChanged(ChangeFeed.UPDATED, saved);
+            return saved;
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -80,23 +342,129 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
+    @Transactional
+    public BulkStatusResult updateEventStatuses(BulkStatusRequest request) {
+        if (request == null || request.getStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Target status must not be null");
+        }
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!byIds && request.getFromStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Either ids or fromStatus must be given");
+        }
+        if (byIds && request.getIds().size() > MAX_BULK_EVENTS) {
             throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "Event not found with id: " + id
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BULK_EVENTS + " event ids can be updated at once"
+            );
+        }
+        EventStatus target = parseStatus(request.getStatus());
+        EventStatus from = request.getFromStatus() == null ? null : parseStatus(request.getFromStatus());
+
+        // One locked read of the current statuses decides the outcome of every id; the write is a single UPDATE.
+        // By fromStatus alone at most MAX_BULK_EVENTS rows move per call, lowest ids first.
+        List<EventSummary> current = byIds
+                ? eventRepository.findLockedSummariesByIdIn(request.getIds())
+                : eventRepository.findLockedSummariesByStatusOrderById(from, PageRequest.of(0, MAX_BULK_EVENTS));
+        Map<Long, BulkStatusResult.Outcome> outcomes = new LinkedHashMap<>();
+        if (byIds) {
+            for (Long id : request.getIds()) {
+                outcomes.put(id, BulkStatusResult.Outcome.NOT_FOUND);
+            }
+        }
+        List<Long> toUpdate = new ArrayList<>();
+        List<EventStatus> fromStatuses = new ArrayList<>();
+        for (EventSummary event : current) {
+            boolean matches = event.getStatus() != target && (from == null || event.getStatus() == from);
+            outcomes.put(event.getId(), matches ? BulkStatusResult.Outcome.UPDATED : BulkStatusResult.Outcome.SKIPPED);
+            if (matches) {
+                toUpdate.add(event.getId());
+                fromStatuses.add(event.getStatus());
+            }
+        }
+
+        int updated = toUpdate.isEmpty() ? 0 : eventRepository.updateStatusByIdIn(toUpdate, target, from);
+        toUpdate.forEach(eventCache::invalidate);
+        fromStatuses.forEach(old -> statusCounters.moved(old, target));
+        budgetRollups.markStale();
+        for (int i = 0; i < toUpdate.size(); i++) {
+            outbox.statusChanged(ChangeFeed.EVENT, toUpdate.get(i), toUpdate.get(i), fromStatuses.get(i), target);
+        }
+        for (Long id : toUpdate) {
+            // The UPDATE bumped each version, but without reloading the rows the new value is unknown.
+            changeFeed.publish(ChangeNotification.builder()
+                    .entity(ChangeFeed.EVENT).change(ChangeFeed.UPDATED)
+                    .id(id).eventId(id).status(target.name())
+                    .build());
+        }
+        return new BulkStatusResult(target.name(), updated, outcomes);
+    }
+
+    private EventStatus parseStatus(String status) {
+        try {
+            return EventStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Invalid event status: " + status
             );
         }
+    }
+
+    @Override
+    @Transactional
+    public void deleteEvent(Long id) {
+        EventStatus status = eventRepository.findStatusById(id)
+                .orElseThrow(() -> new NotFoundException("Event", id));
         eventRepository.deleteById(id);
+        forget(id, status);
+    }
+
+    // Tasks, budget items, budget and event each go in one statement; none of the rows is loaded.
+    @Override
+    @Transactional
+    public void deleteEvent(Long id, boolean cascade) {
+        if (!cascade) {
+            deleteEvent(id);
+            return;
+        }
+        EventStatus status = eventRepository.findStatusById(id)
+                .orElseThrow(() -> new NotFoundException("Event", id));
+        Long budgetId = eventRepository.findBudgetIdById(id).orElse(null);
+        taskService.deleteTasksByEventId(id);
+        eventRepository.deleteInBulkById(id);
+        if (budgetId != null) {
+            budgetService.deleteBudget(budgetId);
+        }
+        forget(id, status);
+    }
+
+    private void forget(Long id, EventStatus status) {
+        eventCache.invalidate(id);
+        budgetRollups.markStale();
+        scheduleIndex.remove(id);
+        statusCounters.removed(status);
+        searchIndex.remove(id);
+        budgetHistory.eventDeleted(id);
+        changeFeed.publish(ChangeNotification.builder()
+                .entity(ChangeFeed.EVENT).change(ChangeFeed.DELETED)
+                .id(id).eventId(id).status(status == null ? null : status.name())
+                .build());
     }
 
 
     @Override
+    @Transactional
     public Event updateEventPartial(Long eventId, EventPatchRequest request) {
+        return updateEventPartial(eventId, request, null);
+    }
+
+    @Override
+    @Transactional
+    public Event updateEventPartial(Long eventId, EventPatchRequest request, Long expectedVersion) {
         Event event = eventRepository.findById(eventId)
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found with id: " + eventId)
-                );
+                .orElseThrow(() -> new NotFoundException("Event", eventId));
+        checkVersion(event, expectedVersion);
+        EventStatus oldStatus = event.getStatus();
 
         if (request.getStatus() != null) {
             try {
@@ -109,11 +477,61 @@ public class EventServiceImpl implements EventService {
             }
         }
 
+        Long replacedBudgetId = null;
         if (request.getBudget() != null) {
+            replacedBudgetId = event.getBudget() == null ? null : event.getBudget().getId();
             Budget savedBudget = budgetService.createEventBudget(request.getBudget());
             event.setBudget(savedBudget);
         }
 
-        return eventRepository.save(event);
+        Event saved = saveVersioned(event);
+        if (replacedBudgetId != null) {
+            // Replacing the budget wholesale would otherwise leave the old row and its items behind.
+            budgetService.deleteBudget(replacedBudgetId);
+        }
+        if (request.getBudget() != null) {
+            budgetHistory.budgetReplaced(eventId, saved.getBudget());
+        }
+        eventCache.invalidate(eventId);
+        scheduleIndex.put(saved);
+        statusCounters.moved(oldStatus, saved.getStatus());
+        budgetRollups.markStale();
+        changeFeed.eventChanged(ChangeFeed.UPDATED, saved);
+        return saved;
+    }
+
+    private void checkVersion(Event event, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(event.getVersion())) {
+            throw new ResponseStatusException(
+                    HttpStatus.PRECONDITION_FAILED,
+                    "Event " + event.getId() + " is at version " + event.getVersion() + ", not " + expectedVersion
+            );
+        }
+    }
+
+    // The flush issues the versioned UPDATE right away, so if another write got there first the conflict
+    // surfaces here as a 409 rather than at commit.
+    private Event saveVersioned(Event event) {
+        try {
+            Event saved = eventRepository.save(event);
+            eventRepository.flush();
+            return saved;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            eventCache.invalidate(event.getId());
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "Event " + event.getId() + " was modified concurrently"
+            );
+        }
+    }
+
+    @Override
+    public EventCacheStats getCacheStats() {
+        return eventCache.stats();
+    }
+
+    @Override
+    public Map<EventStatus, Long> getStatusCounts() {
+        return statusCounters.snapshot();
     }
-}
\ No newline at end of file
+}
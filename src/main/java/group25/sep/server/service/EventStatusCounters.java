@@ -0,0 +1,78 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.EventStatusCount;
+import group25.sep.server.model.enums.EventStatus;
+import group25.sep.server.repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live number of events per status. Seeded from a GROUP BY at startup and adjusted by
+ * {@link EventServiceImpl} on every write, so reading the counts never touches the database.
+ * Adjustments made inside a transaction only apply once it commits, and the counts are re-seeded
+ * periodically so any drift does not last.
+ */
+@Component
+public class EventStatusCounters {
+
+    private final EventRepository eventRepository;
+    private final AtomicReference<Map<EventStatus, LongAdder>> counters = new AtomicReference<>(emptyCounters());
+
+    public EventStatusCounters(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${events.counters.reseed-interval-ms:300000}",
+            fixedDelayString = "${events.counters.reseed-interval-ms:300000}")
+    public void load() {
+        // Count into a fresh map and swap it in, so readers never see a half-built reseed.
+        Map<EventStatus, LongAdder> fresh = emptyCounters();
+        for (EventStatusCount row : eventRepository.countGroupByStatus()) {
+            if (row.getStatus() != null) {
+                fresh.get(row.getStatus()).add(row.getCount());
+            }
+        }
+        counters.set(fresh);
+    }
+
+    private static Map<EventStatus, LongAdder> emptyCounters() {
+        Map<EventStatus, LongAdder> map = new EnumMap<>(EventStatus.class);
+        for (EventStatus status : EventStatus.values()) {
+            map.put(status, new LongAdder());
+        }
+        return map;
+    }
+
+    public void added(EventStatus status) {
+        if (status != null) {
+            AfterCommit.run(() -> counters.get().get(status).increment());
+        }
+    }
+
+    public void removed(EventStatus status) {
+        if (status != null) {
+            AfterCommit.run(() -> counters.get().get(status).decrement());
+        }
+    }
+
+    public void moved(EventStatus from, EventStatus to) {
+        if (from != to) {
+            removed(from);
+            added(to);
+        }
+    }
+
+    public Map<EventStatus, Long> snapshot() {
+        Map<EventStatus, Long> counts = new EnumMap<>(EventStatus.class);
+        counters.get().forEach((status, counter) -> counts.put(status, counter.sum()));
+        return counts;
+    }
+}
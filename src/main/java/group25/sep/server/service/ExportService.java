@@ -0,0 +1,18 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.BudgetVarianceFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes whole tables, or the full budget variance report, as newline-delimited JSON, one row per line.
+ * Each method returns the number of rows written.
+ */
+public interface ExportService {
+    long exportEvents(OutputStream out) throws IOException;
+    long exportTasks(OutputStream out) throws IOException;
+    long exportFinancialRequests(OutputStream out) throws IOException;
+    long exportRecruitmentRequests(OutputStream out) throws IOException;
+    long exportBudgetVariance(BudgetVarianceFilter filter, OutputStream out) throws IOException;
+}
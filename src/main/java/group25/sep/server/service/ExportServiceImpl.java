@@ -0,0 +1,117 @@
+package group25.sep.server.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import group25.sep.server.dto.BudgetVarianceFilter;
+import group25.sep.server.repository.BudgetRepository;
+import group25.sep.server.repository.EventRepository;
+import group25.sep.server.repository.FinancialRequestRepository;
+import group25.sep.server.repository.RecruitmentRequestRepository;
+import group25.sep.server.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final EventRepository eventRepository;
+    private final TaskRepository taskRepository;
+    private final FinancialRequestRepository financialRequestRepository;
+    private final RecruitmentRequestRepository recruitmentRequestRepository;
+    private final BudgetRepository budgetRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ExportServiceImpl(EventRepository eventRepository,
+                             TaskRepository taskRepository,
+                             FinancialRequestRepository financialRequestRepository,
+                             RecruitmentRequestRepository recruitmentRequestRepository,
+                             BudgetRepository budgetRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.taskRepository = taskRepository;
+        this.financialRequestRepository = financialRequestRepository;
+        this.recruitmentRequestRepository = recruitmentRequestRepository;
+        this.budgetRepository = budgetRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public long exportEvents(OutputStream out) throws IOException {
+        try (Stream<?> rows = eventRepository.streamAll()) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    @Override
+    public long exportTasks(OutputStream out) throws IOException {
+        try (Stream<?> rows = taskRepository.streamAll()) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    @Override
+    public long exportFinancialRequests(OutputStream out) throws IOException {
+        try (Stream<?> rows = financialRequestRepository.streamAll()) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    @Override
+    public long exportRecruitmentRequests(OutputStream out) throws IOException {
+        try (Stream<?> rows = recruitmentRequestRepository.streamAll()) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    @Override
+    public long exportBudgetVariance(BudgetVarianceFilter filter, OutputStream out) throws IOException {
+        try (Stream<?> rows = budgetRepository.streamVariance(filter.getThreshold(), filter.getStatus(),
+                filter.isOver(), filter.isUnder())) {
+            // Projection rows are not managed, so there is nothing to detach.
+            return writeNdjson(rows, out, false);
+        }
+    }
+
+    private long writeNdjson(Stream<?> rows, OutputStream out) throws IOException {
+        return writeNdjson(rows, out, true);
+    }
+
+    private long writeNdjson(Stream<?> rows, OutputStream out, boolean detach) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            long count = 0;
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object row = iterator.next();
+                writer.writeValue(generator, row);
+                generator.writeRaw('\n');
+                // Rows are not needed once written; detaching keeps the persistence context from growing.
+                if (detach) {
+                    entityManager.detach(row);
+                }
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+            return count;
+        }
+    }
+}
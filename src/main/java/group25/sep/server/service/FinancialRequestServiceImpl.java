@@ -69,7 +69,7 @@ public class FinancialRequestServiceImpl implements FinancialRequestService {
     @Override
     public FinancialRequest updateFinancialRequestStatus(Long id, FinancialRequestStatus status) {
         FinancialRequest request = financialRequestRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Financial request not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Financial request", id));
 
         request.setStatus(status);
         return financialRequestRepository.save(request);
@@ -78,7 +78,7 @@ public class FinancialRequestServiceImpl implements FinancialRequestService {
     @Override
     public FinancialRequest updateFmNotes(Long id, String fmNotes) {
         FinancialRequest request = financialRequestRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Financial request not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Financial request", id));
 
         request.setFmNotes(fmNotes);
         return financialRequestRepository.save(request);
@@ -87,7 +87,7 @@ public class FinancialRequestServiceImpl implements FinancialRequestService {
     @Override
     public void deleteFinancialRequest(Long id) {
         financialRequestRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Financial request not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Financial request", id));
 
         financialRequestRepository.deleteById(id);
     }
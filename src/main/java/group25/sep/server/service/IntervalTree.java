@@ -0,0 +1,170 @@
+package group25.sep.server.service;
+
+import java.util.List;
+
+/**
+ * AVL tree of closed intervals ordered by (start, id), where every node also tracks the largest end
+ * in its subtree. Overlap queries prune subtrees whose max end is before the query or whose start is
+ * after it, which gives O(log n + k) lookups. Not thread-safe; callers synchronize.
+ */
+final class IntervalTree {
+
+    private static final class Node {
+        final long id;
+        final long start;
+        final long end;
+        long maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(long id, long start, long end) {
+        root = insert(root, id, start, end);
+    }
+
+    void remove(long id, long start) {
+        root = remove(root, id, start);
+    }
+
+    /** Adds the ids of all intervals that share at least one instant with [from, to]. */
+    void collectOverlapping(long from, long to, List<Long> out) {
+        collect(root, from, to, out);
+    }
+
+    private void collect(Node node, long from, long to, List<Long> out) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collect(node.left, from, to, out);
+        if (node.start > to) {
+            // Everything to the right starts even later.
+            return;
+        }
+        if (node.end >= from) {
+            out.add(node.id);
+        }
+        collect(node.right, from, to, out);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int c = Long.compare(start, node.start);
+        return c != 0 ? c : Long.compare(id, node.id);
+    }
+
+    private Node insert(Node node, long id, long start, long end) {
+        if (node == null) {
+            size++;
+            return new Node(id, start, end);
+        }
+        int c = compare(start, id, node);
+        if (c < 0) {
+            node.left = insert(node.left, id, start, end);
+        } else if (c > 0) {
+            node.right = insert(node.right, id, start, end);
+        } else {
+            // Same key; replace so the new end is used.
+            Node replacement = new Node(id, start, end);
+            replacement.left = node.left;
+            replacement.right = node.right;
+            node = replacement;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(start, id, node);
+        if (c < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (c > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.id, successor.start, successor.end);
+            size++; // the successor is removed again below
+            replacement.right = remove(node.right, successor.id, successor.start);
+            replacement.left = node.left;
+            node = replacement;
+        }
+        return rebalance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long max = node.end;
+        if (node.left != null) {
+            max = Math.max(max, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            max = Math.max(max, node.right.maxEnd);
+        }
+        node.maxEnd = max;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
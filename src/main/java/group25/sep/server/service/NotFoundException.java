@@ -0,0 +1,20 @@
+package group25.sep.server.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a looked-up entity does not exist; mapped to 404.
+ * A missing id is an expected outcome rather than a bug, so no stack trace is captured.
+ */
+public class NotFoundException extends ResponseStatusException {
+
+    public NotFoundException(String entity, Object id) {
+        super(HttpStatus.NOT_FOUND, entity + " not found with id: " + id);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,35 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.OutboxRecord;
+import group25.sep.server.repository.OutboxRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records status changes for {@link OutboxRelay} to deliver. Must be called inside the transaction
+ * that makes the change, so a record exists if and only if the change commits.
+ */
+@Component
+public class Outbox {
+
+    private final OutboxRepository outboxRepository;
+
+    public Outbox(OutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(String aggregateType, Long id, Long eventId, Enum<?> from, Enum<?> to) {
+        if (from == to) {
+            return;
+        }
+        outboxRepository.save(OutboxRecord.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(id)
+                .eventId(eventId)
+                .previousStatus(from == null ? null : from.name())
+                .status(to.name())
+                .build());
+    }
+}
@@ -0,0 +1,70 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.OutboxRecord;
+import group25.sep.server.repository.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the outbox to the configured {@link OutboxSink} in id order, one batch at a time.
+ * A batch is marked delivered only after the sink accepts it, which is the checkpoint: a crash
+ * or sink failure in between means the batch is sent again (at-least-once). Delivered records are
+ * kept for {@code outbox.retention-days} and then purged.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final int retentionDays;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxSink sink,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public synchronized int drain() {
+        int delivered = 0;
+        while (true) {
+            List<OutboxRecord> batch = outboxRepository.findByDeliveredAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+            try {
+                sink.deliver(batch);
+            } catch (Exception e) {
+                log.warn("Outbox delivery failed, {} record(s) will be retried: {}", batch.size(), e.toString());
+                return delivered;
+            }
+            outboxRepository.markDelivered(batch.stream().map(OutboxRecord::getId).toList(), LocalDateTime.now());
+            delivered += batch.size();
+            if (batch.size() < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${outbox.purge.cron:0 15 3 * * *}")
+    public int purgeDelivered() {
+        int purged = outboxRepository.deleteDeliveredBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Purged {} delivered outbox record(s) older than {} day(s)", purged, retentionDays);
+        }
+        return purged;
+    }
+}
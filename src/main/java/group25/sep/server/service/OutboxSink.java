@@ -0,0 +1,14 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.OutboxRecord;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox records, selected with {@code outbox.sink}.
+ * A batch counts as delivered only if this returns normally; on an exception the same records
+ * are offered again later, so consumers must tolerate duplicates.
+ */
+public interface OutboxSink {
+    void deliver(List<OutboxRecord> batch) throws Exception;
+}
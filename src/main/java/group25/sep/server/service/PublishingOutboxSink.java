@@ -0,0 +1,29 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.OutboxRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands records to in-process consumers as application events; subscribe with
+ * {@code @EventListener} on {@link OutboxRecord}. Listeners run on the relay thread, so a listener
+ * that throws fails the batch and the relay offers it again.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "events", matchIfMissing = true)
+public class PublishingOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher publisher;
+
+    public PublishingOutboxSink(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void deliver(List<OutboxRecord> batch) {
+        batch.forEach(publisher::publishEvent);
+    }
+}
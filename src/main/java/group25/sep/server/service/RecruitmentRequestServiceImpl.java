@@ -69,7 +69,7 @@ public class RecruitmentRequestServiceImpl implements RecruitmentRequestService
     @Override
     public RecruitmentRequest updateRecruitmentRequestStatus(Long id, RecruitmentStatus status) {
         RecruitmentRequest request = recruitmentRequestRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Recruitment request not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Recruitment request", id));
 
         request.setStatus(status);
         return recruitmentRequestRepository.save(request);
@@ -78,7 +78,7 @@ public class RecruitmentRequestServiceImpl implements RecruitmentRequestService
     @Override
     public RecruitmentRequest updateHrNotes(Long id, String hrNotes) {
         RecruitmentRequest request = recruitmentRequestRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Recruitment request not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Recruitment request", id));
 
         request.setHrNotes(hrNotes);
         return recruitmentRequestRepository.save(request);
@@ -86,6 +86,9 @@ public class RecruitmentRequestServiceImpl implements RecruitmentRequestService
 
     @Override
     public void deleteRecruitmentRequest(Long id) {
+        recruitmentRequestRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Recruitment request", id));
+
         recruitmentRequestRepository.deleteById(id);
     }
 }
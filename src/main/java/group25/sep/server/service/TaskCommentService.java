@@ -0,0 +1,9 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.CursorPage;
+import group25.sep.server.model.TaskComment;
+
+public interface TaskCommentService {
+    TaskComment addComment(Long taskId, TaskComment comment);
+    CursorPage<TaskComment> getComments(Long taskId, String cursor, Integer size);
+}
@@ -0,0 +1,89 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.CursorPage;
+import group25.sep.server.model.TaskComment;
+import group25.sep.server.repository.TaskCommentRepository;
+import group25.sep.server.repository.TaskRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class TaskCommentServiceImpl implements TaskCommentService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BODY_LENGTH = 10_000;
+
+    private final TaskCommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+
+    public TaskCommentServiceImpl(TaskCommentRepository commentRepository, TaskRepository taskRepository) {
+        this.commentRepository = commentRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public TaskComment addComment(Long taskId, TaskComment comment) {
+        if (comment == null || isBlank(comment.getAuthor()) || isBlank(comment.getBody())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Comment author and body must not be empty");
+        }
+        if (comment.getBody().length() > MAX_BODY_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Comment body must be at most " + MAX_BODY_LENGTH + " characters"
+            );
+        }
+        requireTask(taskId);
+        comment.setId(null);
+        comment.setTaskId(taskId);
+        comment.setCreatedAt(LocalDateTime.now());
+        return commentRepository.save(comment);
+    }
+
+    /**
+     * Returns comments oldest first. The cursor is the id of the last comment on the previous page.
+     */
+    @Override
+    public CursorPage<TaskComment> getComments(Long taskId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+        long after;
+        try {
+            after = cursor == null ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor);
+        }
+        requireTask(taskId);
+
+        // Fetch one extra row to find out whether another page follows.
+        List<TaskComment> rows = commentRepository.findByTaskIdAndIdGreaterThan(
+                taskId, after, PageRequest.of(0, pageSize + 1, Sort.by("id")));
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            next = String.valueOf(rows.get(pageSize - 1).getId());
+        }
+        return new CursorPage<>(rows, next, rows.size());
+    }
+
+    private void requireTask(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new NotFoundException("Task", taskId);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -2,16 +2,31 @@ package group25.sep.server.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+
+import group25.sep.server.dto.AssigneeWorkload;
+import group25.sep.server.dto.BulkDeleteResult;
+import group25.sep.server.dto.BulkTaskResult;
+import group25.sep.server.dto.TaskBoard;
+import group25.sep.server.dto.TaskFilter;
 import group25.sep.server.model.Task;
 
 public interface TaskService {
     Task createTask(Task task);
+    Task createTask(Task task, boolean autoAssign);
+    BulkTaskResult createTasks(List<Task> tasks);
     Task getTaskById(Long id);
 
     List<Task> getTasksByStatus(String status);
     List<Task> getTasksBySubteam(String subteam);
     List<Task> getAllTasks();
+    Page<Task> findTasks(TaskFilter filter, Integer page, Integer size, String sort);
+    TaskBoard getTaskBoard(Long eventId, Integer limit);
+    List<AssigneeWorkload> getWorkload(String subteam);
+    List<Task> getTopTasks(Integer k, String subteam);
     Task updateTaskStatus(Long id, String status);
     Task updateTaskComments(Long id, String comments);
     void deleteTask(Long id);
+    BulkDeleteResult deleteTasks(List<Long> ids);
+    BulkDeleteResult deleteTasksByEventId(Long eventId);
 }
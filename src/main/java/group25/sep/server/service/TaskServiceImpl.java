@@ -1,70 +1,194 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.AssigneeWorkload;
+import group25.sep.server.dto.BulkDeleteResult;
+import group25.sep.server.dto.BulkTaskResult;
+import group25.sep.server.dto.TaskBoard;
+import group25.sep.server.dto.TaskBoardColumn;
+import group25.sep.server.dto.ChangeNotification;
+import group25.sep.server.dto.TaskFilter;
 import group25.sep.server.model.Task;
+import group25.sep.server.model.TaskRef;
+import group25.sep.server.model.TaskStatusCount;
 import group25.sep.server.model.enums.TaskStatus;
 import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.repository.TaskCommentRepository;
 import group25.sep.server.repository.TaskRepository;
+import group25.sep.server.repository.TaskSpecifications;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class TaskServiceImpl implements TaskService{
 
+     // Highest priority first; tasks without a priority go last. Ties keep creation order.
+     private static final Comparator<Task> BOARD_ORDER = Comparator
+             .comparing(Task::getPriority, Comparator.nullsLast(Comparator.<TaskPriority>reverseOrder()))
+             .thenComparing(Task::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+
+     private static final int DEFAULT_PAGE_SIZE = 20;
+     private static final int MAX_PAGE_SIZE = 100;
+     private static final Set<String> SORTABLE = Set.of("id", "eventId", "subteam", "assignee", "status");
+
+     private static final int MAX_BULK_TASKS = 5000;
+     private static final int DEFAULT_TOP_K = 10;
+     // Priorities that count as "on fire", most urgent first.
+     private static final List<TaskPriority> TOP_PRIORITIES = List.of(TaskPriority.CRITICAL, TaskPriority.HIGH);
+
      private final TaskRepository taskRepository;
+     private final TaskCommentRepository taskCommentRepository;
+     private final ChangeFeed changeFeed;
+     private final TaskWorkloadIndex workloadIndex;
+     private final Outbox outbox;
 
-     public TaskServiceImpl(TaskRepository taskRepository) {
+     public TaskServiceImpl(TaskRepository taskRepository, TaskCommentRepository taskCommentRepository,
+                            ChangeFeed changeFeed, TaskWorkloadIndex workloadIndex, Outbox outbox) {
         this.taskRepository = taskRepository;
+        this.taskCommentRepository = taskCommentRepository;
+        this.changeFeed = changeFeed;
+        this.workloadIndex = workloadIndex;
+        this.outbox = outbox;
      }
 
      @Override
     public Task createTask(Task task) {
-            Long eventId = task.getEventId();
-            TaskPriority taskPriority = task.getPriority();
-            if (eventId == null) {
-                throw new RuntimeException("Event ID Required" + eventId);
-            } else if (taskPriority == null) {
-                throw new RuntimeException("Priority Required" + eventId);
+            return createTask(task, false);
+    }
+
+    @Override
+    public Task createTask(Task task, boolean autoAssign) {
+            String error = validate(task);
+            if (error != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, error);
+            }
+            if (autoAssign && (task.getAssignee() == null || task.getAssignee().isBlank())) {
+                String assignee = workloadIndex.leastLoaded(task.getSubteam())
+                        .orElseThrow(() -> new ResponseStatusException(
+                                HttpStatus.BAD_REQUEST,
+                                "No known assignees in subteam: " + task.getSubteam()
+                        ));
+                task.setAssignee(assignee);
             }
-            return taskRepository.save(task);
+            Task saved = taskRepository.save(task);
+            workloadIndex.put(saved);
+            changeFeed.taskChanged(ChangeFeed.CREATED, saved);
+            return saved;
     
     }
 
+    // Priorities are stored as strings, so ORDER BY priority would sort alphabetically.
+    // Instead take up to k rows per priority, most urgent first, each from the (priority, id) index.
+    @Override
+    public List<Task> getTopTasks(Integer k, String subteam) {
+        int limit = k == null ? DEFAULT_TOP_K : k;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "k must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<Task> top = new ArrayList<>(limit);
+        for (TaskPriority priority : TOP_PRIORITIES) {
+            int remaining = limit - top.size();
+            if (remaining == 0) {
+                break;
+            }
+            PageRequest page = PageRequest.of(0, remaining, Sort.by("id"));
+            top.addAll(subteam == null
+                    ? taskRepository.findByPriorityAndStatusNot(priority, TaskStatus.COMPLETED, page)
+                    : taskRepository.findByPriorityAndSubteamAndStatusNot(priority, subteam, TaskStatus.COMPLETED, page));
+        }
+        return top;
+    }
+
+    @Override
+    public List<AssigneeWorkload> getWorkload(String subteam) {
+        return workloadIndex.workload(subteam);
+    }
+
+    @Override
+    @Transactional
+    public BulkTaskResult createTasks(List<Task> tasks) {
+        if (tasks == null || tasks.isEmpty() || tasks.size() > MAX_BULK_TASKS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Bulk import takes between 1 and " + MAX_BULK_TASKS + " tasks"
+            );
+        }
+        // Validate every row first so one bad row does not abort the rest.
+        Map<Integer, String> errors = new LinkedHashMap<>();
+        List<Task> valid = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            String error = validate(task);
+            if (error != null) {
+                errors.put(i, "Row " + i + ": " + error);
+            } else {
+                task.setId(null);
+                valid.add(task);
+            }
+        }
+
+        // Sequence ids are assigned from the pooled block, so the inserts go out in JDBC batches on flush.
+        taskRepository.saveAll(valid);
+        for (Task task : valid) {
+            workloadIndex.put(task);
+            changeFeed.taskChanged(ChangeFeed.CREATED, task);
+        }
+
+        List<Long> ids = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            ids.add(errors.containsKey(i) ? null : tasks.get(i).getId());
+        }
+        return new BulkTaskResult(valid.size(), ids, errors);
+    }
+
+    private static String validate(Task task) {
+        if (task == null) {
+            return "Task Required";
+        }
+        if (task.getEventId() == null) {
+            return "Event ID Required";
+        } else if (task.getPriority() == null) {
+            return "Priority Required";
+        }
+        return null;
+    }
+
     @Override
     public Task getTaskById(Long id) {
         return taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id " + id));
+                .orElseThrow(() -> new NotFoundException("Task", id));
     }
+    // An empty column or subteam is a normal answer for polling clients, not an error.
     @Override
     public List<Task> getTasksByStatus(String status) {
         try {
-            TaskStatus taskStatus = TaskStatus.valueOf(status.toUpperCase());
-            List<Task> tasks = taskRepository.findByStatus(taskStatus);
-
-            if (tasks.isEmpty()) {
-                throw new RuntimeException("No tasks found with status: " + status);
-            }
-
-            return tasks;
+            return taskRepository.findByStatus(TaskStatus.valueOf(status.toUpperCase()));
         } catch (IllegalArgumentException e) {
-            throw new RuntimeException("Invalid task status: " + status, e);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid task status: " + status);
         }
     }
 
     @Override
     public List<Task> getTasksBySubteam(String subteam) {
-        try {
-            List<Task> tasks = taskRepository.findBySubteam(subteam);
-
-            if (tasks.isEmpty()) {
-                throw new RuntimeException("No tasks found under subteam: " + subteam);
-            }
-
-            return tasks;
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException("Invalid subteam: " + subteam, e);
+        if (subteam == null || subteam.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid subteam: " + subteam);
         }
+        return taskRepository.findBySubteam(subteam);
     }
 
     @Override
@@ -73,35 +197,194 @@ public class TaskServiceImpl implements TaskService{
     }
 
     @Override
+    public Page<Task> findTasks(TaskFilter filter, Integer page, Integer size, String sort) {
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageNumber < 0 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+        Specification<Task> spec = Specification.allOf(
+                TaskSpecifications.statusIn(parseAll(TaskStatus.class, filter.getStatus(), "task status")),
+                TaskSpecifications.priorityIn(parseAll(TaskPriority.class, filter.getPriority(), "task priority")),
+                TaskSpecifications.subteamIs(filter.getSubteam()),
+                TaskSpecifications.assigneeIs(filter.getAssignee()),
+                TaskSpecifications.eventIdIs(filter.getEventId()));
+        return taskRepository.findAll(spec, PageRequest.of(pageNumber, pageSize, parseSort(sort)));
+    }
+
+    // Accepts "field" or "field,asc|desc"; ties are always broken by id so pages are stable.
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("id");
+        }
+        String[] parts = sort.split(",");
+        String field = parts[0].trim();
+        if (!SORTABLE.contains(field) || parts.length > 2) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort: " + sort);
+        }
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort: " + sort))
+                : Sort.Direction.ASC;
+        Sort order = Sort.by(direction, field);
+        return "id".equals(field) ? order : order.and(Sort.by("id"));
+    }
+
+    private static <E extends Enum<E>> Set<E> parseAll(Class<E> type, List<String> values, String label) {
+        Set<E> parsed = EnumSet.noneOf(type);
+        if (values == null) {
+            return parsed;
+        }
+        for (String value : values) {
+            try {
+                parsed.add(Enum.valueOf(type, value.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + label + ": " + value);
+            }
+        }
+        return parsed;
+    }
+
+    @Override
+    public TaskBoard getTaskBoard(Long eventId, Integer limit) {
+        if (limit != null && limit < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must not be negative: " + limit);
+        }
+        if (limit != null) {
+            return limitedBoard(eventId, limit);
+        }
+        Map<TaskStatus, List<Task>> grouped = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            grouped.put(status, new ArrayList<>());
+        }
+        for (Task task : taskRepository.findByEventId(eventId)) {
+            if (task.getStatus() != null) {
+                grouped.get(task.getStatus()).add(task);
+            }
+        }
+
+        Map<TaskStatus, TaskBoardColumn> columns = new EnumMap<>(TaskStatus.class);
+        grouped.forEach((status, tasks) -> {
+            tasks.sort(BOARD_ORDER);
+            columns.put(status, new TaskBoardColumn(tasks.size(), tasks));
+        });
+        return new TaskBoard(eventId, columns);
+    }
+
+    // With a limit only the shown rows are read: one count query, then one bounded query per non-empty column.
+    private TaskBoard limitedBoard(Long eventId, int limit) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatusCount row : taskRepository.countByEventIdGroupByStatus(eventId)) {
+            if (row.getStatus() != null) {
+                counts.put(row.getStatus(), row.getCount());
+            }
+        }
+        Map<TaskStatus, TaskBoardColumn> columns = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            List<Task> shown = count == 0 || limit == 0
+                    ? new ArrayList<>()
+                    : taskRepository.findBoardColumn(eventId, status, PageRequest.of(0, limit));
+            columns.put(status, new TaskBoardColumn(count, shown));
+        }
+        return new TaskBoard(eventId, columns);
+    }
+
+    @Override
+    @Transactional
     public Task updateTaskStatus(Long id, String status) {
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Task", id));
 
         try {
+            TaskStatus oldStatus = task.getStatus();
             TaskStatus newStatus = TaskStatus.valueOf(status.toUpperCase());
             task.setStatus(newStatus);
-            return taskRepository.save(task);
+            Task saved = taskRepository.save(task);
+            outbox.statusChanged(ChangeFeed.TASK, saved.getId(), saved.getEventId(), oldStatus, newStatus);
+            workloadIndex.put(saved);
+            changeFeed.taskChanged(ChangeFeed.UPDATED, saved);
+            return saved;
         } catch (IllegalArgumentException e) {
-            throw new RuntimeException("Invalid task status: " + status, e);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid task status: " + status, e);
         }
     }
 
     @Override
     public Task updateTaskComments(Long id, String comments) {
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+                .orElseThrow(() -> new NotFoundException("Task", id));
 
         try {
             task.setComments(comments);
-            return taskRepository.save(task);
+            Task saved = taskRepository.save(task);
+            changeFeed.taskChanged(ChangeFeed.UPDATED, saved);
+            return saved;
         } catch (IllegalArgumentException e) {
-            throw new RuntimeException("Invalid task comments: " + comments, e);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid task comments: " + comments, e);
         }
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id) {
+        // Loaded first so filtered subscribers can tell which event and subteam the task belonged to.
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Task", id));
+        taskCommentRepository.deleteByTaskId(id);
         taskRepository.deleteById(id);
+        workloadIndex.remove(id);
+        changeFeed.taskChanged(ChangeFeed.DELETED, task);
+    }
+
+    @Override
+    @Transactional
+    public BulkDeleteResult deleteTasks(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_TASKS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Between 1 and " + MAX_BULK_TASKS + " task ids are required"
+            );
+        }
+        List<TaskRef> refs = taskRepository.findRefsByIdIn(ids);
+        List<Long> found = refs.stream().map(TaskRef::getId).toList();
+        if (found.isEmpty()) {
+            return new BulkDeleteResult(0, found);
+        }
+        taskCommentRepository.deleteByTaskIdIn(found);
+        int deleted = taskRepository.deleteInBulkByIdIn(found);
+        forget(refs);
+        return new BulkDeleteResult(deleted, found);
+    }
+
+    @Override
+    @Transactional
+    public BulkDeleteResult deleteTasksByEventId(Long eventId) {
+        List<TaskRef> refs = taskRepository.findRefsByEventId(eventId);
+        List<Long> found = refs.stream().map(TaskRef::getId).toList();
+        // Both deletes use the event predicate, so comments always go with their task.
+        taskCommentRepository.deleteByEventId(eventId);
+        int deleted = taskRepository.deleteInBulkByEventId(eventId);
+        forget(refs);
+        if (deleted != found.size()) {
+            // A task was added to the event after the read; rebuild from committed rows so the index does not keep it.
+            AfterCommit.run(workloadIndex::load);
+        }
+        return new BulkDeleteResult(deleted, found);
+    }
+
+    private void forget(List<TaskRef> refs) {
+        for (TaskRef ref : refs) {
+            workloadIndex.remove(ref.getId());
+            changeFeed.publish(ChangeNotification.builder()
+                    .entity(ChangeFeed.TASK).change(ChangeFeed.DELETED)
+                    .id(ref.getId()).eventId(ref.getEventId()).subteam(ref.getSubteam())
+                    .status(ref.getStatus() == null ? null : ref.getStatus().name())
+                    .build());
+        }
     }
 
 }
@@ -0,0 +1,170 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.AssigneeWorkload;
+import group25.sep.server.model.Task;
+import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.model.enums.TaskStatus;
+import group25.sep.server.repository.TaskRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Open task load per assignee, grouped by subteam. Each subteam keeps its members in a TreeSet ordered
+ * by load, so finding the least-loaded member and moving a member after a change are O(log n).
+ * Loaded once at startup and kept current by {@link TaskServiceImpl}; changes made inside a transaction
+ * apply once it commits. Completed tasks carry no load, but their assignees stay known so they can be
+ * picked for new work.
+ */
+@Component
+public class TaskWorkloadIndex {
+
+    private static final class Member {
+        final String subteam;
+        final String assignee;
+        int openTasks;
+        int load;
+
+        Member(String subteam, String assignee) {
+            this.subteam = subteam;
+            this.assignee = assignee;
+        }
+    }
+
+    private static final Comparator<Member> LEAST_LOADED = Comparator
+            .comparingInt((Member m) -> m.load)
+            .thenComparingInt(m -> m.openTasks)
+            .thenComparing(m -> m.assignee);
+
+    private static final class Contribution {
+        final String subteam;
+        final String assignee;
+        final int weight;
+
+        Contribution(String subteam, String assignee, int weight) {
+            this.subteam = subteam;
+            this.assignee = assignee;
+            this.weight = weight;
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    // subteam key -> members ordered by load, and the same members by name
+    private final Map<String, TreeSet<Member>> bySubteam = new HashMap<>();
+    private final Map<String, Map<String, Member>> members = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+
+    public TaskWorkloadIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    // Its own transaction, since a reload may be triggered after another transaction has committed.
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public synchronized void load() {
+        bySubteam.clear();
+        members.clear();
+        contributions.clear();
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            tasks.forEach(this::index);
+        }
+    }
+
+    public void put(Task task) {
+        AfterCommit.run(() -> apply(task));
+    }
+
+    public void remove(Long id) {
+        AfterCommit.run(() -> unapply(id));
+    }
+
+    private synchronized void apply(Task task) {
+        unindex(task.getId());
+        index(task);
+    }
+
+    private synchronized void unapply(Long id) {
+        unindex(id);
+    }
+
+    /** The member of {@code subteam} with the lowest weighted load, if the subteam has any known members. */
+    public synchronized Optional<String> leastLoaded(String subteam) {
+        TreeSet<Member> ordered = bySubteam.get(key(subteam));
+        return ordered == null || ordered.isEmpty() ? Optional.empty() : Optional.of(ordered.first().assignee);
+    }
+
+    /** Workloads least loaded first, for one subteam or for all of them when {@code subteam} is null. */
+    public synchronized List<AssigneeWorkload> workload(String subteam) {
+        List<AssigneeWorkload> result = new ArrayList<>();
+        if (subteam != null) {
+            addAll(bySubteam.get(key(subteam)), result);
+        } else {
+            bySubteam.values().forEach(ordered -> addAll(ordered, result));
+            result.sort(Comparator.comparing(AssigneeWorkload::getSubteam).thenComparingInt(AssigneeWorkload::getLoad));
+        }
+        return result;
+    }
+
+    static int weight(TaskPriority priority) {
+        return priority == null ? 1 : priority.ordinal() + 1;
+    }
+
+    private static void addAll(TreeSet<Member> ordered, List<AssigneeWorkload> out) {
+        if (ordered != null) {
+            for (Member member : ordered) {
+                out.add(new AssigneeWorkload(member.subteam, member.assignee, member.openTasks, member.load));
+            }
+        }
+    }
+
+    private void index(Task task) {
+        String subteam = key(task.getSubteam());
+        String assignee = task.getAssignee() == null ? null : task.getAssignee().trim();
+        if (task.getId() == null || subteam == null || assignee == null || assignee.isEmpty()) {
+            return;
+        }
+        boolean open = task.getStatus() != TaskStatus.COMPLETED;
+        int weight = open ? weight(task.getPriority()) : 0;
+        Member member = members.computeIfAbsent(subteam, k -> new HashMap<>())
+                .computeIfAbsent(assignee, a -> new Member(task.getSubteam().trim(), a));
+        adjust(subteam, member, open ? 1 : 0, weight);
+        contributions.put(task.getId(), new Contribution(subteam, assignee, weight));
+    }
+
+    private void unindex(Long id) {
+        Contribution contribution = id == null ? null : contributions.remove(id);
+        if (contribution == null) {
+            return;
+        }
+        Member member = members.get(contribution.subteam).get(contribution.assignee);
+        adjust(contribution.subteam, member, contribution.weight > 0 ? -1 : 0, -contribution.weight);
+    }
+
+    // Re-inserts the member so the TreeSet ordering reflects its new load.
+    private void adjust(String subteam, Member member, int openDelta, int loadDelta) {
+        TreeSet<Member> ordered = bySubteam.computeIfAbsent(subteam, k -> new TreeSet<>(LEAST_LOADED));
+        ordered.remove(member);
+        member.openTasks += openDelta;
+        member.load += loadDelta;
+        ordered.add(member);
+    }
+
+    private static String key(String subteam) {
+        if (subteam == null || subteam.isBlank()) {
+            return null;
+        }
+        return subteam.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,9 +1,17 @@
 package group25.sep.server.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import group25.sep.server.dto.BudgetRevisionDetail;
+import group25.sep.server.dto.BudgetRollupReport;
 import group25.sep.server.model.Budget;
 import group25.sep.server.model.BudgetItem;
+import group25.sep.server.model.BudgetRevision;
+import group25.sep.server.model.Event;
+import group25.sep.server.model.enums.EventStatus;
 import group25.sep.server.repository.BudgetRepository;
+import group25.sep.server.repository.EventRepository;
+import group25.sep.server.service.BudgetService;
+import group25.sep.server.service.EventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,9 +26,19 @@ import org.springframework.test.web.servlet.MvcResult;
 import java.math.BigDecimal;
 import java.sql.SQLOutput;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -37,6 +55,15 @@ class BudgetControllerTest {
     @Autowired
     private BudgetRepository budgetRepository;
 
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private EventService eventService;
+
     private Budget savedBudget;
 
     @BeforeEach
@@ -90,4 +117,247 @@ class BudgetControllerTest {
         assertTrue(responseBody.contains("Budget not found with id: 9999"));
         assertTrue(responseBody.contains("\"status\":404"));
     }
+
+    private BigDecimal totalOf(Long budgetId) {
+        return budgetRepository.findById(budgetId).orElseThrow().getTotalAmount();
+    }
+
+    @Test
+    void itemEndpointsKeepTotalInStep() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(7000));
+        Budget budget = new Budget();
+        budget.setDescription("Meetup Budget");
+        budget.setItems(List.of(venue));
+        budget.setTotalAmount(BigDecimal.valueOf(7000));
+        Event event = eventRepository.save(Event.builder().name("Meetup").status(EventStatus.BUDGETED).budget(budget).build());
+        Long budgetId = event.getBudget().getId();
+        String base = "/api/" + event.getId() + "/budget/items";
+
+        MvcResult added = mockMvc.perform(post(base)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Sound\",\"amount\":1500}"))
+                .andReturn();
+        assertEquals(201, added.getResponse().getStatus());
+        BudgetItem item = objectMapper.readValue(added.getResponse().getContentAsString(), BudgetItem.class);
+        assertEquals(0, totalOf(budgetId).compareTo(BigDecimal.valueOf(8500)));
+
+        MvcResult updated = mockMvc.perform(put(base + "/" + item.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Sound\",\"amount\":1000}"))
+                .andReturn();
+        assertEquals(200, updated.getResponse().getStatus());
+        assertEquals(0, totalOf(budgetId).compareTo(BigDecimal.valueOf(8000)));
+
+        MvcResult removed = mockMvc.perform(delete(base + "/" + item.getId())).andReturn();
+        assertEquals(204, removed.getResponse().getStatus());
+        assertEquals(0, totalOf(budgetId).compareTo(BigDecimal.valueOf(7000)));
+        assertEquals(event.getVersion() + 3, eventRepository.findById(event.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void concurrentItemUpdatesKeepTotalEqualToItems() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(100));
+        Budget budget = new Budget();
+        budget.setItems(List.of(venue));
+        budget.setTotalAmount(BigDecimal.valueOf(100));
+        Event event = eventRepository.save(Event.builder().name("Meetup").status(EventStatus.BUDGETED).budget(budget).build());
+        Long budgetId = event.getBudget().getId();
+        Long itemId = budgetRepository.findWithItemsByEventId(event.getId()).orElseThrow().getItems().get(0).getId();
+
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        List<Future<BudgetItem>> results = new ArrayList<>();
+        for (int i = 1; i <= writers; i++) {
+            BudgetItem change = new BudgetItem();
+            change.setDescription("Venue");
+            change.setAmount(BigDecimal.valueOf(100 + i * 50));
+            results.add(pool.submit(() -> {
+                start.await();
+                return budgetService.updateItem(event.getId(), itemId, change);
+            }));
+        }
+        start.countDown();
+        for (Future<BudgetItem> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        Budget after = budgetRepository.findWithItemsByEventId(event.getId()).orElseThrow();
+        assertEquals(0, totalOf(budgetId).compareTo(after.getItems().get(0).getAmount()));
+    }
+
+    @Test
+    void budgetRollupLiveAndSummaryAgree() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(4000));
+        Budget budget = new Budget();
+        budget.setItems(List.of(venue));
+        eventRepository.save(Event.builder().name("Meetup").type("Social").status(EventStatus.BUDGETED).budget(budget).build());
+
+        for (String summary : List.of("false", "true")) {
+            MvcResult result = mockMvc.perform(get("/api/events/budget/rollup")
+                            .param("by", "type").param("summary", summary))
+                    .andReturn();
+            assertEquals(200, result.getResponse().getStatus());
+            BudgetRollupReport report = objectMapper.readValue(result.getResponse().getContentAsString(), BudgetRollupReport.class);
+            assertEquals(1, report.getRows().size());
+            assertEquals("Social", report.getRows().get(0).getKey());
+            assertEquals(0, report.getTotal().compareTo(BigDecimal.valueOf(4000)));
+            assertEquals(1, report.getRows().get(0).getEvents());
+        }
+    }
+
+    @Test
+    void getEventBudgetWithAndWithoutItems() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(4000));
+        Budget budget = new Budget();
+        budget.setDescription("Meetup Budget");
+        budget.setTotalAmount(BigDecimal.valueOf(4000));
+        budget.setItems(List.of(venue));
+        Event event = eventRepository.save(Event.builder().name("Meetup").status(EventStatus.BUDGETED).budget(budget).build());
+
+        MvcResult full = mockMvc.perform(get("/api/" + event.getId() + "/budget")).andReturn();
+        assertEquals(200, full.getResponse().getStatus());
+        Budget response = objectMapper.readValue(full.getResponse().getContentAsString(), Budget.class);
+        assertEquals(1, response.getItems().size());
+        assertEquals("Venue", response.getItems().get(0).getDescription());
+
+        MvcResult header = mockMvc.perform(get("/api/" + event.getId() + "/budget").param("items", "false")).andReturn();
+        Map<?, ?> body = objectMapper.readValue(header.getResponse().getContentAsString(), Map.class);
+        assertEquals("Meetup Budget", body.get("description"));
+        assertFalse(body.containsKey("items"));
+
+        Event unbudgeted = eventRepository.save(Event.builder().name("Draft").status(EventStatus.PENDING).build());
+        assertEquals(404, mockMvc.perform(get("/api/" + unbudgeted.getId() + "/budget")).andReturn().getResponse().getStatus());
+    }
+
+    @Test
+    void budgetRevisionsRebuildEarlierStates() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(7000));
+        Budget budget = new Budget();
+        budget.setDescription("Meetup Budget");
+        budget.setItems(List.of(venue));
+        budget.setTotalAmount(BigDecimal.valueOf(7000));
+        Event event = eventService.createEvent(Event.builder().name("Meetup").status(EventStatus.BUDGETED).budget(budget).build());
+        String base = "/api/" + event.getId() + "/budget";
+
+        MvcResult added = mockMvc.perform(post(base + "/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Sound\",\"amount\":1500}"))
+                .andReturn();
+        BudgetItem item = objectMapper.readValue(added.getResponse().getContentAsString(), BudgetItem.class);
+        mockMvc.perform(put(base + "/items/" + item.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"Sound\",\"amount\":1000}"));
+        mockMvc.perform(delete(base + "/items/" + item.getId()));
+
+        List<BudgetRevision> revisions = revisionsOf(base);
+        assertEquals(4, revisions.size());
+        assertTrue(revisions.get(0).isSnapshot());
+        assertFalse(revisions.get(1).isSnapshot());
+
+        BudgetRevisionDetail created = revisionOf(base, 1);
+        assertEquals(1, created.getItems().size());
+        assertEquals("Meetup Budget", created.getDescription());
+        assertEquals(0, created.getTotalAmount().compareTo(BigDecimal.valueOf(7000)));
+
+        BudgetRevisionDetail withSound = revisionOf(base, 2);
+        assertEquals(2, withSound.getItems().size());
+        assertEquals("Meetup Budget", withSound.getDescription());
+        assertEquals(0, withSound.getTotalAmount().compareTo(BigDecimal.valueOf(8500)));
+
+        BudgetRevisionDetail updated = revisionOf(base, 3);
+        assertEquals(0, updated.getTotalAmount().compareTo(BigDecimal.valueOf(8000)));
+        assertEquals(0, updated.getItems().get(1).getAmount().compareTo(BigDecimal.valueOf(1000)));
+
+        BudgetRevisionDetail removed = revisionOf(base, 4);
+        assertEquals(1, removed.getItems().size());
+        assertEquals("Venue", removed.getItems().get(0).getDescription());
+        assertEquals(0, removed.getTotalAmount().compareTo(BigDecimal.valueOf(7000)));
+
+        assertEquals(404, mockMvc.perform(get(base + "/revisions/9")).andReturn().getResponse().getStatus());
+
+        mockMvc.perform(delete("/api/events/" + event.getId()).param("cascade", "true"));
+        assertTrue(revisionsOf(base).isEmpty());
+    }
+
+    @Test
+    void firstEditOfUntrackedBudgetKeepsItsOriginalState() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(7000));
+        Budget budget = new Budget();
+        budget.setDescription("Meetup Budget");
+        budget.setItems(List.of(venue));
+        budget.setTotalAmount(BigDecimal.valueOf(7000));
+        Event event = eventRepository.save(Event.builder().name("Meetup").status(EventStatus.BUDGETED).budget(budget).build());
+        String base = "/api/" + event.getId() + "/budget";
+
+        mockMvc.perform(post(base + "/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"Sound\",\"amount\":1500}"));
+
+        assertEquals(2, revisionsOf(base).size());
+        BudgetRevisionDetail original = revisionOf(base, 1);
+        assertEquals(1, original.getItems().size());
+        assertEquals(0, original.getTotalAmount().compareTo(BigDecimal.valueOf(7000)));
+        assertEquals(0, revisionOf(base, 2).getTotalAmount().compareTo(BigDecimal.valueOf(8500)));
+    }
+
+    @Test
+    void concurrentFirstEditsOfUntrackedBudgetAllRecordRevisions() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(1000));
+        Budget budget = new Budget();
+        budget.setItems(List.of(venue));
+        budget.setTotalAmount(BigDecimal.valueOf(1000));
+        Event event = eventRepository.save(Event.builder().name("Meetup").status(EventStatus.BUDGETED).budget(budget).build());
+
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        List<Future<BudgetItem>> results = new ArrayList<>();
+        for (int i = 1; i <= writers; i++) {
+            BudgetItem item = new BudgetItem();
+            item.setDescription("Extra " + i);
+            item.setAmount(BigDecimal.valueOf(i * 10));
+            results.add(pool.submit(() -> {
+                start.await();
+                return budgetService.addItem(event.getId(), item);
+            }));
+        }
+        start.countDown();
+        for (Future<BudgetItem> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // One snapshot of the original budget, then one revision per edit.
+        List<BudgetRevision> revisions = revisionsOf("/api/" + event.getId() + "/budget");
+        assertEquals(writers + 1, revisions.size());
+        assertEquals(1, revisions.stream().filter(BudgetRevision::isSnapshot).count());
+    }
+
+    private List<BudgetRevision> revisionsOf(String base) throws Exception {
+        MvcResult list = mockMvc.perform(get(base + "/revisions")).andReturn();
+        return objectMapper.readValue(list.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, BudgetRevision.class));
+    }
+
+    private BudgetRevisionDetail revisionOf(String base, int revision) throws Exception {
+        MvcResult result = mockMvc.perform(get(base + "/revisions/" + revision)).andReturn();
+        assertEquals(200, result.getResponse().getStatus());
+        return objectMapper.readValue(result.getResponse().getContentAsString(), BudgetRevisionDetail.class);
+    }
 }
@@ -0,0 +1,87 @@
+package group25.sep.server.controller;
+
+import group25.sep.server.model.Event;
+import group25.sep.server.model.Task;
+import group25.sep.server.model.enums.EventStatus;
+import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.model.enums.TaskStatus;
+import group25.sep.server.service.ChangeFeed;
+import group25.sep.server.service.EventService;
+import group25.sep.server.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    @Test
+    void subscriberReceivesEventStatusChange() throws Exception {
+        Event event = eventService.createEvent(Event.builder().name("Workshop").status(EventStatus.PENDING).build());
+        MvcResult result = mockMvc.perform(get("/api/changes").param("eventId", String.valueOf(event.getId())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, changeFeed.subscriberCount());
+
+        eventService.updateEventStatus(event.getId(), "accepted");
+
+        String content = awaitContent(result.getResponse(), "ACCEPTED");
+        assertTrue(content.contains("event:event"));
+        assertTrue(content.contains("\"id\":" + event.getId()));
+        assertTrue(content.contains("\"status\":\"ACCEPTED\""));
+        assertTrue(content.contains("\"version\":1"));
+    }
+
+    @Test
+    void subteamFilterSkipsOtherTasksAndEvents() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/changes").param("subteam", "food"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        eventService.createEvent(Event.builder().name("Expo").status(EventStatus.PENDING).build());
+        taskService.createTask(Task.builder().eventId(1L).subteam("Music")
+                .priority(TaskPriority.LOW).status(TaskStatus.CREATED).build());
+        Task food = taskService.createTask(Task.builder().eventId(1L).subteam("Food")
+                .priority(TaskPriority.HIGH).status(TaskStatus.CREATED).build());
+
+        String content = awaitContent(result.getResponse(), "\"id\":" + food.getId());
+        assertTrue(content.contains("\"subteam\":\"Food\""));
+        assertFalse(content.contains("Music"));
+        assertFalse(content.contains("event:event"));
+    }
+}
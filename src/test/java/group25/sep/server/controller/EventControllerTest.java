@@ -1,12 +1,18 @@
 package group25.sep.server.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import group25.sep.server.dto.CursorPage;
 import group25.sep.server.dto.EventPatchRequest;
 import group25.sep.server.model.Budget;
 import group25.sep.server.model.BudgetItem;
 import group25.sep.server.model.Event;
+import group25.sep.server.model.Task;
 import group25.sep.server.model.enums.EventStatus;
+import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.model.enums.TaskStatus;
+import group25.sep.server.service.BudgetService;
 import group25.sep.server.service.EventService;
+import group25.sep.server.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -22,11 +28,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -56,6 +66,12 @@ class EventControllerTest {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BudgetService budgetService;
+
     @BeforeEach
     void setup(TestInfo testInfo) throws Exception {
         if (testInfo.getDisplayName().contains("getAllEventsWhenListIsEmpty")) {
@@ -228,6 +244,254 @@ class EventControllerTest {
         assertTrue(responseEvents.stream().anyMatch(e -> e.getName().equals("Conference")));
     }
 
+    @Test
+    void getEventPageFollowsNextCursor() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(baseEventRequest)))
+                    .andExpect(status().isOk());
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/events/page").param("size", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+        CursorPage<Event> firstPage = objectMapper.readValue(
+                first.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory().constructParametricType(CursorPage.class, Event.class)
+        );
+
+        assertEquals(2, firstPage.getItems().size());
+        assertEquals(createdEventId, firstPage.getItems().get(0).getId());
+        assertNotNull(firstPage.getNext());
+
+        MvcResult second = mockMvc.perform(get("/api/events/page")
+                        .param("size", "2")
+                        .param("cursor", firstPage.getNext()))
+                .andExpect(status().isOk())
+                .andReturn();
+        CursorPage<Event> secondPage = objectMapper.readValue(
+                second.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory().constructParametricType(CursorPage.class, Event.class)
+        );
+
+        assertEquals(1, secondPage.getItems().size());
+        assertNull(secondPage.getNext());
+    }
+
+    @Test
+    void getEventPageWithInvalidCursor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/page").param("cursor", "not-a-cursor"))
+                .andReturn();
+
+        assertEquals(400, result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentAsString().contains("Invalid cursor"));
+    }
+
+    @Test
+    void getEventSummaryPageOmitsBudget() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/summary"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Map<String, Object> body = objectMapper.readValue(result.getResponse().getContentAsString(), Map.class);
+        List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("items");
+
+        assertEquals(1, items.size());
+        assertEquals("Workshop", items.get(0).get("name"));
+        assertEquals("Main Hall", items.get(0).get("location"));
+        assertFalse(items.get(0).containsKey("budget"));
+        assertNull(body.get("next"));
+    }
+
+    @Test
+    void getEventSummariesByStatus() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/summary/status/pending"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<Map<String, Object>> items = objectMapper.readValue(result.getResponse().getContentAsString(), List.class);
+
+        assertEquals(1, items.size());
+        assertEquals("PENDING", items.get(0).get("status"));
+        assertFalse(items.get(0).containsKey("budget"));
+    }
+
+    @Test
+    void getEventsActiveBetweenIncludesOverlappingEvent() throws Exception {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        MvcResult result = mockMvc.perform(get("/api/events/range")
+                        .param("from", now.minus(1, ChronoUnit.DAYS).toString())
+                        .param("to", now.plus(1, ChronoUnit.DAYS).toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<Map<String, Object>> items = objectMapper.readValue(result.getResponse().getContentAsString(), List.class);
+        assertEquals(1, items.size());
+        assertEquals(createdEventId.intValue(), items.get(0).get("id"));
+
+        MvcResult empty = mockMvc.perform(get("/api/events/range")
+                        .param("from", now.plus(2, ChronoUnit.DAYS).toString())
+                        .param("to", now.plus(3, ChronoUnit.DAYS).toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals("[]", empty.getResponse().getContentAsString());
+    }
+
+    @Test
+    void getEventsActiveBetweenTreatsOpenEndedEventsAsSingleDay() throws Exception {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Event earlier = eventService.createEvent(Event.builder().name("Kickoff").status(EventStatus.PENDING)
+                .startDate(Date.from(now.minus(5, ChronoUnit.DAYS))).build());
+        Event today = eventService.createEvent(Event.builder().name("Standup").status(EventStatus.PENDING)
+                .startDate(Date.from(now)).build());
+
+        MvcResult result = mockMvc.perform(get("/api/events/range")
+                        .param("from", now.minus(1, ChronoUnit.DAYS).toString())
+                        .param("to", now.plus(1, ChronoUnit.DAYS).toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<Map<String, Object>> items = objectMapper.readValue(result.getResponse().getContentAsString(), List.class);
+        List<Object> ids = items.stream().map(item -> item.get("id")).toList();
+        assertTrue(ids.contains(today.getId().intValue()));
+        assertFalse(ids.contains(earlier.getId().intValue()));
+    }
+
+    @Test
+    void getConflictingEventsAtSameLocation() throws Exception {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        MvcResult result = mockMvc.perform(get("/api/events/conflicts")
+                        .param("location", " main hall ")
+                        .param("from", now.minus(1, ChronoUnit.DAYS).toString())
+                        .param("to", now.plus(1, ChronoUnit.DAYS).toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<Map<String, Object>> items = objectMapper.readValue(result.getResponse().getContentAsString(), List.class);
+        assertEquals(1, items.size());
+        assertEquals(createdEventId.intValue(), items.get(0).get("id"));
+
+        mockMvc.perform(get("/api/events/conflicts")
+                        .param("location", "Other Hall")
+                        .param("from", now.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void createEventWithRejectConflictsReturnsConflict() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/events")
+                        .param("rejectConflicts", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(baseEventRequest)))
+                .andReturn();
+
+        assertEquals(409, result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentAsString().contains(String.valueOf(createdEventId)));
+    }
+
+    @Test
+    void getEventsStartingThisWeek() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/this-week"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<Map<String, Object>> items = objectMapper.readValue(result.getResponse().getContentAsString(), List.class);
+        assertEquals(1, items.size());
+    }
+
+    @Test
+    void exportEventsAsNdjson() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, result.getResponse().getContentType());
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(1, lines.length);
+        assertEquals(createdEventId, objectMapper.readValue(lines[0], Event.class).getId());
+    }
+
+    @Test
+    void exportEventsIncludesEachBudgetOnceWithAllItems() throws Exception {
+        BudgetItem venue = new BudgetItem();
+        venue.setDescription("Venue");
+        venue.setAmount(BigDecimal.valueOf(300));
+        BudgetItem catering = new BudgetItem();
+        catering.setDescription("Catering");
+        catering.setAmount(BigDecimal.valueOf(200));
+        Budget budget = new Budget();
+        budget.setItems(List.of(venue, catering));
+        budget.setTotalAmount(BigDecimal.valueOf(500));
+        eventService.createEvent(Event.builder().name("Gala").status(EventStatus.PENDING).budget(budget).build());
+
+        MvcResult pending = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        Event gala = objectMapper.readValue(lines[1], Event.class);
+        assertEquals("Gala", gala.getName());
+        assertEquals(2, gala.getBudget().getItems().size());
+    }
+
+    private void budgetedEvent(String name, EventStatus status, long estimate, long actual) {
+        BudgetItem item = new BudgetItem();
+        item.setDescription("Venue");
+        item.setAmount(BigDecimal.valueOf(actual));
+        Budget budget = new Budget();
+        budget.setItems(List.of(item));
+        budget.setTotalAmount(BigDecimal.valueOf(actual));
+        eventService.createEvent(Event.builder().name(name).status(status)
+                .estimateBudget(BigDecimal.valueOf(estimate)).budget(budget).build());
+    }
+
+    @Test
+    void budgetVarianceFiltersAndSortsByAbsoluteVariance() throws Exception {
+        budgetedEvent("Gala", EventStatus.APPROVED, 10000, 13000);
+        budgetedEvent("Seminar", EventStatus.PENDING, 10000, 9500);
+        budgetedEvent("Fair", EventStatus.PENDING, 5000, 1000);
+        budgetedEvent("Meetup", EventStatus.PENDING, 5000, 5000);
+
+        MvcResult all = mockMvc.perform(get("/api/events/budget/variance").param("size", "2")).andReturn();
+        assertEquals(200, all.getResponse().getStatus());
+        Map<?, ?> page = objectMapper.readValue(all.getResponse().getContentAsString(), Map.class);
+        List<?> content = (List<?>) page.get("content");
+        assertEquals(2, content.size());
+        assertEquals("Fair", ((Map<?, ?>) content.get(0)).get("name"));
+        assertEquals(-80.0, ((Number) ((Map<?, ?>) content.get(0)).get("variancePercent")).doubleValue());
+        assertEquals("Gala", ((Map<?, ?>) content.get(1)).get("name"));
+        assertEquals(false, page.get("last"));
+
+        MvcResult under = mockMvc.perform(get("/api/events/budget/variance")
+                        .param("direction", "under").param("threshold", "10").param("status", "pending"))
+                .andReturn();
+        List<?> underRows = (List<?>) objectMapper.readValue(under.getResponse().getContentAsString(), Map.class).get("content");
+        assertEquals(1, underRows.size());
+        assertEquals("Fair", ((Map<?, ?>) underRows.get(0)).get("name"));
+
+        assertEquals(400, mockMvc.perform(get("/api/events/budget/variance").param("direction", "sideways"))
+                .andReturn().getResponse().getStatus());
+
+        MvcResult pending = mockMvc.perform(get("/api/events/budget/variance/export").param("direction", "over"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult exported = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn();
+        String[] lines = exported.getResponse().getContentAsString().split("\n");
+        assertEquals(1, lines.length);
+        assertEquals("Gala", objectMapper.readValue(lines[0], Map.class).get("name"));
+    }
+
     @Test
     void getEventByIdSuccessfully() throws Exception {
         MvcResult result = mockMvc.perform(get("/api/events/" + createdEventId))
@@ -350,6 +614,146 @@ class EventControllerTest {
         );
     }
 
+    @Test
+    void updateEventStatusesInBulk() throws Exception {
+        String body = "{\"ids\":[" + createdEventId + ",9999],\"status\":\"accepted\"}";
+        MvcResult result = mockMvc.perform(
+                        put("/api/events/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Map<String, Object> response = objectMapper.readValue(result.getResponse().getContentAsString(), Map.class);
+        Map<String, Object> outcomes = (Map<String, Object>) response.get("outcomes");
+
+        assertEquals(1, response.get("updated"));
+        assertEquals("UPDATED", outcomes.get(String.valueOf(createdEventId)));
+        assertEquals("NOT_FOUND", outcomes.get("9999"));
+        assertEquals(EventStatus.ACCEPTED, eventService.getEventById(createdEventId).getStatus());
+    }
+
+    @Test
+    void updateEventStatusesByFromStatusInBulk() throws Exception {
+        eventService.createEvent(Event.builder().name("Seminar").status(EventStatus.ACCEPTED).build());
+        String body = "{\"fromStatus\":\"pending\",\"status\":\"budgeted\"}";
+        MvcResult result = mockMvc.perform(
+                        put("/api/events/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Map<String, Object> response = objectMapper.readValue(result.getResponse().getContentAsString(), Map.class);
+        assertEquals(1, response.get("updated"));
+        assertEquals(Set.of(String.valueOf(createdEventId)), ((Map<String, Object>) response.get("outcomes")).keySet());
+        assertEquals(EventStatus.BUDGETED, eventService.getEventById(createdEventId).getStatus());
+    }
+
+    @Test
+    void searchEventsByKeyword() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/search").param("q", "software workshop"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Map<String, Object> body = objectMapper.readValue(result.getResponse().getContentAsString(), Map.class);
+        List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("items");
+        assertEquals(1, items.size());
+        assertEquals(createdEventId.intValue(), items.get(0).get("id"));
+        assertEquals(1, body.get("total"));
+
+        mockMvc.perform(get("/api/events/search").param("q", "gala"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    void getTaskBoardForEvent() throws Exception {
+        taskService.createTask(Task.builder().eventId(createdEventId).description("Book room")
+                .priority(TaskPriority.LOW).status(TaskStatus.CREATED).build());
+        taskService.createTask(Task.builder().eventId(createdEventId).description("Order food")
+                .priority(TaskPriority.CRITICAL).status(TaskStatus.CREATED).build());
+        taskService.createTask(Task.builder().eventId(createdEventId + 1).description("Other event")
+                .priority(TaskPriority.HIGH).status(TaskStatus.CREATED).build());
+
+        mockMvc.perform(get("/api/events/" + createdEventId + "/tasks/board").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns.CREATED.count").value(2))
+                .andExpect(jsonPath("$.columns.CREATED.tasks.length()").value(1))
+                .andExpect(jsonPath("$.columns.CREATED.tasks[0].description").value("Order food"))
+                .andExpect(jsonPath("$.columns.IN_PROGRESS.count").value(0));
+
+        mockMvc.perform(get("/api/events/9999/tasks/board"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getStatusCountsTracksWrites() throws Exception {
+        mockMvc.perform(put("/api/events/" + createdEventId + "/status/accepted"))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(get("/api/events/stats"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Map<String, Object> counts = objectMapper.readValue(result.getResponse().getContentAsString(), Map.class);
+        assertEquals(0, counts.get("PENDING"));
+        assertEquals(1, counts.get("ACCEPTED"));
+        assertEquals(5, counts.size());
+    }
+
+    @Test
+    void getEventByIdHonoursIfNoneMatch() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/events/" + createdEventId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn();
+
+        MvcResult cached = mockMvc.perform(get("/api/events/" + createdEventId)
+                        .header("If-None-Match", first.getResponse().getHeader("ETag")))
+                .andReturn();
+
+        assertEquals(304, cached.getResponse().getStatus());
+        assertEquals("", cached.getResponse().getContentAsString());
+    }
+
+    @Test
+    void etagIsExposedToTheCrossOriginClient() throws Exception {
+        mockMvc.perform(get("/api/events/" + createdEventId).header("Origin", "http://localhost:4200"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Allow-Origin", "http://localhost:4200"))
+                .andExpect(header().string("Access-Control-Expose-Headers", "ETag"));
+    }
+
+    @Test
+    void updateEventStatusBumpsETagAndRejectsStaleIfMatch() throws Exception {
+        mockMvc.perform(put("/api/events/" + createdEventId + "/status/accepted")
+                        .header("If-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+
+        MvcResult stale = mockMvc.perform(put("/api/events/" + createdEventId + "/status/budgeted")
+                        .header("If-Match", "\"0\""))
+                .andReturn();
+
+        assertEquals(412, stale.getResponse().getStatus());
+        assertEquals(EventStatus.ACCEPTED, eventService.getEventById(createdEventId).getStatus());
+    }
+
+    @Test
+    void updateEventPartialWithStaleIfMatch() throws Exception {
+        EventPatchRequest patch = new EventPatchRequest();
+        patch.setStatus("accepted");
+
+        MvcResult result = mockMvc.perform(patch("/api/events/" + createdEventId)
+                        .header("If-Match", "\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patch)))
+                .andReturn();
+
+        assertEquals(412, result.getResponse().getStatus());
+    }
+
     @Test
     void updateEventPartialSuccessfully() throws Exception {
         BudgetItem item1 = new BudgetItem();
@@ -396,6 +800,31 @@ class EventControllerTest {
         assertEquals(204, status);
     }
 
+    @Test
+    void deleteEventWithCascadeRemovesTasksAndBudget() throws Exception {
+        Budget budget = new Budget();
+        budget.setDescription("Workshop Budget");
+        BudgetItem item = new BudgetItem();
+        item.setDescription("Catering");
+        item.setAmount(BigDecimal.valueOf(2000));
+        budget.setItems(List.of(item));
+        EventPatchRequest patch = new EventPatchRequest();
+        patch.setBudget(budget);
+        eventService.updateEventPartial(createdEventId, patch);
+        Long budgetId = eventService.getEventById(createdEventId).getBudget().getId();
+        taskService.createTask(Task.builder().eventId(createdEventId).subteam("Food")
+                .priority(TaskPriority.HIGH).status(TaskStatus.CREATED).build());
+
+        MvcResult result = mockMvc.perform(delete("/api/events/" + createdEventId).param("cascade", "true"))
+                .andReturn();
+
+        assertEquals(204, result.getResponse().getStatus());
+        assertTrue(taskService.getTaskBoard(createdEventId, null).getColumns().values().stream()
+                .allMatch(column -> column.getCount() == 0));
+        assertThrows(ResponseStatusException.class, () -> budgetService.getBudgetById(budgetId));
+        assertThrows(ResponseStatusException.class, () -> eventService.getEventById(createdEventId));
+    }
+
     @Test
     void deleteEventNotFound() throws Exception {
         MvcResult result = mockMvc.perform(delete("/api/events/9999"))
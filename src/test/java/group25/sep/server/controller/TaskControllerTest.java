@@ -0,0 +1,267 @@
+package group25.sep.server.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group25.sep.server.dto.BulkTaskResult;
+import group25.sep.server.model.Task;
+import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.model.enums.TaskStatus;
+import group25.sep.server.repository.TaskRepository;
+import group25.sep.server.model.OutboxRecord;
+import group25.sep.server.service.OutboxRelay;
+import group25.sep.server.service.TaskWorkloadIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RecordApplicationEvents
+class TaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskWorkloadIndex workloadIndex;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @BeforeEach
+    void setup() {
+        taskRepository.saveAll(List.of(
+                Task.builder().eventId(1L).subteam("Food").assignee("Mary")
+                        .priority(TaskPriority.CRITICAL).status(TaskStatus.IN_PROGRESS).build(),
+                Task.builder().eventId(1L).subteam("Food").assignee("Tom")
+                        .priority(TaskPriority.HIGH).status(TaskStatus.CREATED).build(),
+                Task.builder().eventId(1L).subteam("Music").assignee("Tom")
+                        .priority(TaskPriority.LOW).status(TaskStatus.IN_PROGRESS).build(),
+                Task.builder().eventId(2L).subteam("Food").assignee("Tom")
+                        .priority(TaskPriority.HIGH).status(TaskStatus.IN_PROGRESS).build()));
+    }
+
+    private Task[] readTasks(MvcResult result) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(), Task[].class);
+    }
+
+    @Test
+    void getAllTasksWithoutFiltersReturnsEverything() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(4, readTasks(result).length);
+        assertNull(result.getResponse().getHeader("X-Total-Count"));
+    }
+
+    @Test
+    void totalCountIsExposedToTheCrossOriginClient() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks")
+                        .param("eventId", "1")
+                        .header("Origin", "http://localhost:4200"))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("X-Total-Count", result.getResponse().getHeader("Access-Control-Expose-Headers"));
+    }
+
+    @Test
+    void getTasksCombinesFilters() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks")
+                        .param("eventId", "1")
+                        .param("subteam", "Food")
+                        .param("status", "created", "in_progress"))
+                .andReturn();
+
+        Task[] tasks = readTasks(result);
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("2", result.getResponse().getHeader("X-Total-Count"));
+        assertEquals(2, tasks.length);
+        for (Task task : tasks) {
+            assertEquals(1L, task.getEventId());
+            assertEquals("Food", task.getSubteam());
+        }
+    }
+
+    @Test
+    void getTasksPagesAndSorts() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks")
+                        .param("priority", "HIGH,LOW")
+                        .param("assignee", "Tom")
+                        .param("sort", "eventId,desc")
+                        .param("size", "2"))
+                .andReturn();
+
+        Task[] tasks = readTasks(result);
+        assertEquals("3", result.getResponse().getHeader("X-Total-Count"));
+        assertEquals(2, tasks.length);
+        assertEquals(2L, tasks[0].getEventId());
+        assertEquals(1L, tasks[1].getEventId());
+    }
+
+    @Test
+    void getTasksWithInvalidStatus() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks").param("status", "finished")).andReturn();
+
+        assertEquals(400, result.getResponse().getStatus());
+    }
+
+    @Test
+    void createTasksInBulk() throws Exception {
+        List<Task> rows = List.of(
+                Task.builder().eventId(3L).priority(TaskPriority.LOW).status(TaskStatus.CREATED).build(),
+                Task.builder().eventId(3L).status(TaskStatus.CREATED).build(),
+                Task.builder().eventId(3L).priority(TaskPriority.HIGH).status(TaskStatus.CREATED).build());
+
+        MvcResult result = mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rows)))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        BulkTaskResult body = objectMapper.readValue(result.getResponse().getContentAsString(), BulkTaskResult.class);
+        assertEquals(2, body.getCreated());
+        assertNotNull(body.getIds().get(0));
+        assertNull(body.getIds().get(1));
+        assertNotNull(body.getIds().get(2));
+        assertTrue(body.getErrors().containsKey(1));
+        assertEquals(2, taskRepository.findByEventId(3L).size());
+    }
+
+    @Test
+    void appendAndPageTaskComments() throws Exception {
+        Long taskId = taskRepository.findAll().get(0).getId();
+        for (int i = 1; i <= 3; i++) {
+            MvcResult posted = mockMvc.perform(post("/api/tasks/" + taskId + "/comments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"author\":\"Mary\",\"body\":\"Update " + i + "\"}"))
+                    .andReturn();
+            assertEquals(200, posted.getResponse().getStatus());
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/tasks/" + taskId + "/comments").param("size", "2")).andReturn();
+        Map<String, Object> page = objectMapper.readValue(first.getResponse().getContentAsString(), Map.class);
+        List<Map<String, Object>> items = (List<Map<String, Object>>) page.get("items");
+        assertEquals(List.of("Update 1", "Update 2"), items.stream().map(c -> c.get("body")).toList());
+
+        MvcResult second = mockMvc.perform(get("/api/tasks/" + taskId + "/comments")
+                        .param("size", "2")
+                        .param("cursor", (String) page.get("next")))
+                .andReturn();
+        Map<String, Object> rest = objectMapper.readValue(second.getResponse().getContentAsString(), Map.class);
+        assertEquals(1, rest.get("size"));
+        assertNull(rest.get("next"));
+
+        MvcResult missing = mockMvc.perform(get("/api/tasks/9999/comments")).andReturn();
+        assertEquals(404, missing.getResponse().getStatus());
+    }
+
+    @Test
+    void autoAssignUsesLeastLoadedMember() throws Exception {
+        // The fixtures bypass the service, so rebuild the index the way startup does.
+        workloadIndex.load();
+        MvcResult workload = mockMvc.perform(get("/api/tasks/workload").param("subteam", "Food")).andReturn();
+        List<Map<String, Object>> members = objectMapper.readValue(workload.getResponse().getContentAsString(), List.class);
+        assertEquals("Mary", members.get(0).get("assignee"));
+
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .param("autoAssign", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventId\":1,\"subteam\":\"Food\",\"priority\":\"CRITICAL\",\"status\":\"CREATED\"}"))
+                .andReturn();
+
+        assertEquals(200, created.getResponse().getStatus());
+        assertEquals("Mary", objectMapper.readValue(created.getResponse().getContentAsString(), Task.class).getAssignee());
+    }
+
+    @Test
+    void getTopTasksSkipsCompletedAndLowerPriorities() throws Exception {
+        Task done = taskRepository.save(Task.builder().eventId(3L).subteam("Food").assignee("Mary")
+                .priority(TaskPriority.CRITICAL).status(TaskStatus.COMPLETED).build());
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/top").param("k", "5")).andReturn();
+
+        Task[] tasks = readTasks(result);
+        assertEquals(3, tasks.length);
+        assertEquals(TaskPriority.CRITICAL, tasks[0].getPriority());
+        assertEquals(TaskPriority.HIGH, tasks[1].getPriority());
+        assertEquals(TaskPriority.HIGH, tasks[2].getPriority());
+        assertNotEquals(done.getId(), tasks[0].getId());
+
+        MvcResult music = mockMvc.perform(get("/api/tasks/top").param("subteam", "Music")).andReturn();
+        assertEquals(0, readTasks(music).length);
+    }
+
+    @Test
+    void emptyStatusColumnReturnsEmptyListAndMissingTaskReturns404() throws Exception {
+        MvcResult empty = mockMvc.perform(get("/api/tasks/status/completed")).andReturn();
+        assertEquals(200, empty.getResponse().getStatus());
+        assertEquals(0, readTasks(empty).length);
+
+        MvcResult missing = mockMvc.perform(get("/api/tasks/999")).andReturn();
+        assertEquals(404, missing.getResponse().getStatus());
+        Map<?, ?> body = objectMapper.readValue(missing.getResponse().getContentAsString(), Map.class);
+        assertEquals("Task not found with id: 999", body.get("message"));
+
+        MvcResult deleteMissing = mockMvc.perform(delete("/api/tasks/999")).andReturn();
+        assertEquals(404, deleteMissing.getResponse().getStatus());
+    }
+
+    @Test
+    void statusChangeIsRelayedFromOutboxOnce() throws Exception {
+        Long id = taskRepository.findBySubteam("Music").get(0).getId();
+
+        mockMvc.perform(put("/api/tasks/" + id + "/status/completed"));
+
+        assertEquals(1, outboxRelay.drain());
+        assertEquals(0, outboxRelay.drain());
+        List<OutboxRecord> relayed = applicationEvents.stream(OutboxRecord.class).toList();
+        assertEquals(1, relayed.size());
+        OutboxRecord record = relayed.get(0);
+        assertEquals(id, record.getAggregateId());
+        assertEquals("IN_PROGRESS", record.getPreviousStatus());
+        assertEquals("COMPLETED", record.getStatus());
+    }
+
+    @Test
+    void bulkDeleteByEventAndByIds() throws Exception {
+        MvcResult byEvent = mockMvc.perform(delete("/api/tasks").param("eventId", "1")).andReturn();
+        assertEquals(200, byEvent.getResponse().getStatus());
+        assertEquals(3, objectMapper.readValue(byEvent.getResponse().getContentAsString(), Map.class).get("deleted"));
+
+        Long remaining = taskRepository.findAll().get(0).getId();
+        MvcResult byIds = mockMvc.perform(delete("/api/tasks").param("ids", remaining + ",999")).andReturn();
+        assertEquals(1, objectMapper.readValue(byIds.getResponse().getContentAsString(), Map.class).get("deleted"));
+        assertEquals(0, taskRepository.count());
+
+        assertEquals(400, mockMvc.perform(delete("/api/tasks")).andReturn().getResponse().getStatus());
+    }
+}
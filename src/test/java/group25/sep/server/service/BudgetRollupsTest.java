@@ -0,0 +1,53 @@
+package group25.sep.server.service;
+
+import group25.sep.server.repository.BudgetRollupRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BudgetRollupsTest {
+
+    private final BudgetRollupRepository rollupRepository = mock(BudgetRollupRepository.class);
+    private final BudgetRollupRebuild rebuild = mock(BudgetRollupRebuild.class);
+    private final BudgetRollups rollups = new BudgetRollups(rollupRepository, rebuild);
+
+    @Test
+    void readerWaitsForAnInFlightRebuildToFinish() throws Exception {
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            rebuilding.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(rebuild).run();
+        when(rollupRepository.findByDimensionOrderByBucket("status")).thenReturn(List.of());
+
+        CompletableFuture<?> first = CompletableFuture.runAsync(() -> rollups.read("status"));
+        assertTrue(rebuilding.await(5, TimeUnit.SECONDS));
+        CompletableFuture<?> second = CompletableFuture.runAsync(() -> rollups.read("status"));
+        Thread.sleep(100);
+
+        verify(rollupRepository, never()).findByDimensionOrderByBucket("status");
+        finish.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        verify(rebuild, times(1)).run();
+        verify(rollupRepository, times(2)).findByDimensionOrderByBucket("status");
+    }
+
+    @Test
+    void failedRebuildLeavesRollupsStale() {
+        doThrow(new IllegalStateException("down")).doNothing().when(rebuild).run();
+
+        assertThrows(IllegalStateException.class, () -> rollups.read("status"));
+        rollups.read("status");
+
+        verify(rebuild, times(2)).run();
+    }
+}
@@ -1,10 +1,15 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.BudgetRollupReport;
 import group25.sep.server.model.Budget;
 import group25.sep.server.model.BudgetItem;
+import group25.sep.server.model.BudgetRollupView;
+import group25.sep.server.repository.BudgetItemRepository;
 import group25.sep.server.repository.BudgetRepository;
+import group25.sep.server.repository.EventRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -17,12 +22,23 @@ import static org.junit.jupiter.api.Assertions.*;
 class BudgetServiceImplTest {
 
     private BudgetRepository budgetRepository;
+    private BudgetItemRepository budgetItemRepository;
+    private EventRepository eventRepository;
+    private EventCache eventCache;
+    private BudgetRollups rollups;
+    private BudgetHistoryService history;
     private BudgetServiceImpl budgetService;
 
     @BeforeEach
     void setUp() {
         budgetRepository = mock(BudgetRepository.class);
-        budgetService = new BudgetServiceImpl(budgetRepository);
+        budgetItemRepository = mock(BudgetItemRepository.class);
+        eventRepository = mock(EventRepository.class);
+        eventCache = mock(EventCache.class);
+        rollups = mock(BudgetRollups.class);
+        history = mock(BudgetHistoryService.class);
+        budgetService = new BudgetServiceImpl(budgetRepository, budgetItemRepository, eventRepository, eventCache,
+                rollups, history);
     }
 
     @Test
@@ -106,4 +122,64 @@ class BudgetServiceImplTest {
         assertEquals(BigDecimal.valueOf(2500), result.getTotalAmount());
         verify(budgetRepository).save(budget);
     }
+
+    @Test
+    void updateItemAdjustsTotalByDelta() {
+        BudgetItem existing = BudgetItem.builder().id(3L).description("Venue").amount(BigDecimal.valueOf(5000)).build();
+        when(eventRepository.findLockedBudgetIdById(1L)).thenReturn(Optional.of(2L));
+        when(budgetItemRepository.findByIdAndBudgetId(3L, 2L)).thenReturn(Optional.of(existing));
+
+        BudgetItem result = budgetService.updateItem(1L, 3L,
+                BudgetItem.builder().description("Venue").amount(BigDecimal.valueOf(4200)).build());
+
+        assertEquals(BigDecimal.valueOf(4200), result.getAmount());
+        verify(budgetRepository).addToTotal(2L, BigDecimal.valueOf(-800));
+        verify(eventRepository).bumpVersion(1L);
+        verify(eventCache).invalidate(1L);
+        verify(budgetRepository, never()).save(any());
+    }
+
+    @Test
+    void removeItemSubtractsItsAmount() {
+        BudgetItem existing = BudgetItem.builder().id(3L).amount(BigDecimal.valueOf(2000)).build();
+        when(eventRepository.findLockedBudgetIdById(1L)).thenReturn(Optional.of(2L));
+        when(budgetItemRepository.findByIdAndBudgetId(3L, 2L)).thenReturn(Optional.of(existing));
+
+        budgetService.removeItem(1L, 3L);
+
+        verify(budgetItemRepository).delete(existing);
+        verify(budgetRepository).addToTotal(2L, BigDecimal.valueOf(-2000));
+    }
+
+    @Test
+    void addItemWithoutBudgetIsNotFound() {
+        when(eventRepository.findLockedBudgetIdById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class,
+                () -> budgetService.addItem(1L, BudgetItem.builder().amount(BigDecimal.TEN).build()));
+    }
+
+    @Test
+    void getRollupFormatsMonthKeysAndSumsTotal() {
+        BudgetRollupView october = mock(BudgetRollupView.class);
+        when(october.getBucket()).thenReturn(202510);
+        when(october.getTotal()).thenReturn(BigDecimal.valueOf(1200));
+        when(october.getEvents()).thenReturn(2L);
+        BudgetRollupView unscheduled = mock(BudgetRollupView.class);
+        when(unscheduled.getTotal()).thenReturn(BigDecimal.valueOf(300));
+        when(unscheduled.getEvents()).thenReturn(1L);
+        when(budgetRepository.rollupByMonth()).thenReturn(List.of(october, unscheduled));
+
+        BudgetRollupReport report = budgetService.getRollup("month", false);
+
+        assertEquals("2025-10", report.getRows().get(0).getKey());
+        assertNull(report.getRows().get(1).getKey());
+        assertEquals(BigDecimal.valueOf(1500), report.getTotal());
+        verify(rollups, never()).read(any());
+    }
+
+    @Test
+    void getRollupWithUnknownDimensionIsBadRequest() {
+        assertThrows(ResponseStatusException.class, () -> budgetService.getRollup("location", false));
+    }
 }
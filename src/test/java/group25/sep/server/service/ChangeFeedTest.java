@@ -0,0 +1,79 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.ChangeNotification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedTest {
+
+    private final ChangeFeed changeFeed = new ChangeFeed(Duration.ofMinutes(1), 2, 2);
+
+    /** Records what was sent; optionally blocks every send until released, like a client with a full TCP window. */
+    private static final class TestEmitter extends SseEmitter {
+        final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch release;
+        volatile boolean completed;
+
+        TestEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeed.destroy();
+    }
+
+    @Test
+    void slowSubscriberIsDisconnectedWithoutHoldingUpOthers() throws Exception {
+        CountDownLatch stuck = new CountDownLatch(1);
+        TestEmitter slow = new TestEmitter(stuck);
+        TestEmitter fast = new TestEmitter(new CountDownLatch(0));
+        changeFeed.register(slow, null, null);
+        changeFeed.register(fast, null, null);
+
+        for (long id = 1; id <= 5; id++) {
+            changeFeed.publish(ChangeNotification.builder().entity(ChangeFeed.EVENT).change(ChangeFeed.UPDATED).id(id).build());
+            int expected = (int) id;
+            await(() -> fast.sent.size() == expected);
+        }
+
+        assertEquals(1, changeFeed.subscriberCount());
+        stuck.countDown();
+        await(() -> slow.completed);
+        assertFalse(fast.completed);
+    }
+}
@@ -0,0 +1,123 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.Event;
+import group25.sep.server.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventScheduleIndexTest {
+
+    private EventRepository eventRepository;
+    private EventScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        index = new EventScheduleIndex(eventRepository);
+    }
+
+    private static Event event(long id, String location, long start, Long end) {
+        Event event = new Event();
+        event.setId(id);
+        event.setLocation(location);
+        event.setStartDate(new Date(start));
+        event.setEndDate(end == null ? null : new Date(end));
+        return event;
+    }
+
+    @Test
+    void findOverlappingMatchesOnlySameLocation() {
+        index.put(event(1L, "Main Hall", 100, 200L));
+        index.put(event(2L, "main hall ", 150, 300L));
+        index.put(event(3L, "Annex", 100, 200L));
+
+        assertEquals(List.of(1L, 2L), index.findOverlapping("MAIN HALL", new Date(180), new Date(190)));
+        assertEquals(List.of(2L), index.findOverlapping("Main Hall", new Date(250), new Date(400)));
+        assertTrue(index.findOverlapping("Main Hall", new Date(301), new Date(400)).isEmpty());
+        assertTrue(index.findOverlapping("Garden", new Date(100), new Date(200)).isEmpty());
+    }
+
+    @Test
+    void eventWithoutEndDateOccupiesItsStart() {
+        index.put(event(1L, "Main Hall", 100, null));
+
+        assertEquals(List.of(1L), index.findOverlapping("Main Hall", new Date(100), null));
+        assertTrue(index.findOverlapping("Main Hall", new Date(101), new Date(500)).isEmpty());
+    }
+
+    @Test
+    void putMovesAndRemoveDropsEvent() {
+        index.put(event(1L, "Main Hall", 100, 200L));
+        index.put(event(1L, "Annex", 500, 600L));
+
+        assertTrue(index.findOverlapping("Main Hall", new Date(0), new Date(1000)).isEmpty());
+        assertEquals(List.of(1L), index.findOverlapping("Annex", new Date(0), new Date(1000)));
+
+        index.remove(1L);
+        assertTrue(index.findOverlapping("Annex", new Date(0), new Date(1000)).isEmpty());
+    }
+
+    @Test
+    void loadIndexesExistingEvents() {
+        when(eventRepository.findSummariesBy()).thenReturn(List.of());
+        index.put(event(9L, "Main Hall", 100, 200L));
+
+        index.load();
+
+        assertTrue(index.findOverlapping("Main Hall", new Date(0), new Date(1000)).isEmpty());
+    }
+
+    @Test
+    void findOverlappingAgreesWithLinearScan() {
+        Random random = new Random(42);
+        Map<Long, long[]> live = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            long start = random.nextInt(10_000);
+            long end = start + random.nextInt(200);
+            index.put(event(id, "Main Hall", start, end));
+            live.put(id, new long[]{start, end});
+            if (random.nextInt(4) == 0) {
+                long victim = 1 + random.nextInt((int) id);
+                index.remove(victim);
+                live.remove(victim);
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(10_000);
+            long to = from + random.nextInt(300);
+            Set<Long> expected = new HashSet<>();
+            live.forEach((id, range) -> {
+                if (range[0] <= to && range[1] >= from) {
+                    expected.add(id);
+                }
+            });
+            List<Long> actual = index.findOverlapping("Main Hall", new Date(from), new Date(to));
+            assertEquals(expected, new HashSet<>(actual));
+            assertEquals(expected.size(), actual.size());
+        }
+    }
+
+    @Test
+    void changesInsideTransactionApplyOnlyOnCommit() {
+        index.put(event(1L, "Main Hall", 100, 200L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.put(event(2L, "Main Hall", 150, 250L));
+            index.remove(1L);
+            assertEquals(List.of(1L), index.findOverlapping("Main Hall", new Date(100), new Date(300)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Rolled back: neither change was applied.
+        assertEquals(List.of(1L), index.findOverlapping("Main Hall", new Date(100), new Date(300)));
+    }
+}
@@ -0,0 +1,102 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.Event;
+import group25.sep.server.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventSearchIndexTest {
+
+    private EventRepository eventRepository;
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        index = new EventSearchIndex(eventRepository);
+
+        index.put(event(1L, "Tech Summit", "Annual technology conference", "Negombo", "conference"));
+        index.put(event(2L, "AI Expo", "AI and data science exhibition with a tech track", "Colombo", "expo"));
+        index.put(event(3L, "Developer Meetup", "Regional developer community meetup", "Kandy", "meetup"));
+    }
+
+    private static Event event(long id, String name, String description, String location, String type) {
+        Event event = new Event();
+        event.setId(id);
+        event.setName(name);
+        event.setDescription(description);
+        event.setLocation(location);
+        event.setType(type);
+        return event;
+    }
+
+    @Test
+    void nameMatchesOutrankDescriptionMatches() {
+        EventSearchIndex.Hits hits = index.search("tech", 0, 10);
+
+        assertEquals(List.of(1L, 2L), hits.getIds());
+        assertEquals(2, hits.getTotal());
+    }
+
+    @Test
+    void searchIsCaseInsensitiveAndMatchesAnyTerm() {
+        EventSearchIndex.Hits hits = index.search("KANDY, colombo!", 0, 10);
+
+        assertEquals(2, hits.getTotal());
+        assertTrue(hits.getIds().containsAll(List.of(2L, 3L)));
+    }
+
+    @Test
+    void searchPagesThroughRankedHits() {
+        index.put(event(4L, "Tech Talks", null, null, null));
+
+        assertEquals(List.of(1L, 4L), index.search("tech", 0, 2).getIds());
+        assertEquals(List.of(2L), index.search("tech", 1, 2).getIds());
+        assertTrue(index.search("tech", 2, 2).getIds().isEmpty());
+        assertEquals(3, index.search("tech", 2, 2).getTotal());
+    }
+
+    @Test
+    void pagesPastTheHitCapAreEmptyEvenWhenPageTimesSizeOverflows() {
+        assertTrue(index.search("tech", Integer.MAX_VALUE, 100).getIds().isEmpty());
+        assertEquals(2, index.search("tech", Integer.MAX_VALUE, 100).getTotal());
+    }
+
+    @Test
+    void removeAndReplaceUpdatePostings() {
+        index.remove(1L);
+        index.put(event(3L, "Tech Night", null, "Kandy", null));
+
+        assertEquals(List.of(3L, 2L), index.search("tech", 0, 10).getIds());
+        assertTrue(index.search("meetup", 0, 10).getIds().isEmpty());
+    }
+
+    @Test
+    void loadRebuildsFromRepository() {
+        when(eventRepository.streamSearchText()).thenReturn(Stream.empty());
+
+        index.load();
+
+        assertEquals(0, index.search("tech", 0, 10).getTotal());
+    }
+
+    @Test
+    void rolledBackChangesNeverReachTheIndex() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.put(event(4L, "Tech Fair", "Student tech fair", "Galle", "fair"));
+            index.remove(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(1L, 2L), index.search("tech", 0, 10).getIds());
+    }
+}
@@ -1,21 +1,31 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.BulkStatusRequest;
+import group25.sep.server.dto.BulkStatusResult;
+import group25.sep.server.dto.CursorPage;
 import group25.sep.server.dto.EventPatchRequest;
+import group25.sep.server.dto.SearchPage;
 import group25.sep.server.model.Budget;
 import group25.sep.server.model.BudgetItem;
 import group25.sep.server.model.Event;
+import group25.sep.server.model.EventSummary;
 import group25.sep.server.model.enums.EventStatus;
 import group25.sep.server.repository.EventRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,6 +38,33 @@ class EventServiceImplTest {
     @Mock
     private BudgetService budgetService;
 
+    @Spy
+    private EventCache eventCache = new EventCache(100, Duration.ofMinutes(5));
+
+    @Mock
+    private EventScheduleIndex scheduleIndex;
+
+    @Mock
+    private EventSearchIndex searchIndex;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private BudgetRollups budgetRollups;
+
+    @Mock
+    private BudgetHistoryService budgetHistory;
+
+    @Spy
+    private EventStatusCounters statusCounters = new EventStatusCounters(mock(EventRepository.class));
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -152,22 +189,121 @@ class EventServiceImplTest {
     void getEventByIdSuccessfully() {
         Event event = new Event();
         event.setId(1L);
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.findWithBudgetById(1L)).thenReturn(Optional.of(event));
 
         Event result = eventService.getEventById(1L);
 
         assertEquals(1L, result.getId());
-        verify(eventRepository).findById(1L);
+        verify(eventRepository).findWithBudgetById(1L);
+    }
+
+    @Test
+    void requireEventChecksExistenceWithoutLoading() {
+        when(eventRepository.existsById(2L)).thenReturn(false);
+
+        NotFoundException ex = assertThrows(NotFoundException.class, () -> eventService.requireEvent(2L));
+
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        verify(eventRepository, never()).findWithBudgetById(any());
+        verifyNoInteractions(eventCache);
     }
 
     @Test
     void getEventByIdNotFound() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.empty());
+        when(eventRepository.findWithBudgetById(1L)).thenReturn(Optional.empty());
 
         RuntimeException ex = assertThrows(RuntimeException.class, () -> eventService.getEventById(1L));
         assertTrue(ex.getMessage().contains("Event not found with id: 1"));
     }
 
+    @Test
+    void getEventByIdServesRepeatedReadsFromCache() {
+        Event event = new Event();
+        event.setId(1L);
+        when(eventRepository.findWithBudgetById(1L)).thenReturn(Optional.of(event));
+
+        eventService.getEventById(1L);
+        Event cached = eventService.getEventById(1L);
+
+        assertSame(event, cached);
+        verify(eventRepository, times(1)).findWithBudgetById(1L);
+        assertEquals(1, eventService.getCacheStats().getHitCount());
+        assertEquals(1, eventService.getCacheStats().getMissCount());
+    }
+
+    @Test
+    void getEventByIdNotFoundIsNotCached() {
+        when(eventRepository.findWithBudgetById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResponseStatusException.class, () -> eventService.getEventById(1L));
+        assertThrows(ResponseStatusException.class, () -> eventService.getEventById(1L));
+
+        verify(eventRepository, times(2)).findWithBudgetById(1L);
+    }
+
+    @Test
+    void updateEventStatusInvalidatesCachedEvent() {
+        Event event = new Event();
+        event.setId(1L);
+        event.setStatus(EventStatus.PENDING);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.findWithBudgetById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.save(any(Event.class))).thenReturn(event);
+
+        eventService.getEventById(1L);
+        eventService.updateEventStatus(1L, "accepted");
+        eventService.getEventById(1L);
+
+        verify(eventCache).invalidate(1L);
+        assertEquals(2, eventService.getCacheStats().getMissCount());
+    }
+
+    @Test
+    void updateEventStatusRecordsChangeInOutbox() {
+        Event event = Event.builder().id(1L).status(EventStatus.PENDING).build();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.save(event)).thenReturn(event);
+
+        eventService.updateEventStatus(1L, "accepted");
+
+        verify(outbox).statusChanged(ChangeFeed.EVENT, 1L, 1L, EventStatus.PENDING, EventStatus.ACCEPTED);
+    }
+
+    @Test
+    void createEventPutsSavedEventInCache() {
+        Event event = Event.builder().id(7L).name("Gala").status(EventStatus.PENDING).build();
+        when(eventRepository.save(event)).thenReturn(event);
+
+        eventService.createEvent(event);
+
+        assertSame(event, eventService.getEventById(7L));
+        verify(eventRepository, never()).findWithBudgetById(7L);
+    }
+
+    @Test
+    void createEventRolledBackIsNotCached() {
+        Event event = Event.builder().id(7L).name("Gala").status(EventStatus.PENDING).build();
+        when(eventRepository.save(event)).thenReturn(event);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventService.createEvent(event);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThrows(NotFoundException.class, () -> eventService.getEventById(7L));
+    }
+
+    @Test
+    void deleteEventInvalidatesCachedEvent() {
+        when(eventRepository.findStatusById(1L)).thenReturn(Optional.of(EventStatus.PENDING));
+
+        eventService.deleteEvent(1L);
+
+        verify(eventCache).invalidate(1L);
+    }
+
     @Test
     void getEventsByStatusSuccessfully() {
         Event e1 = new Event(); e1.setStatus(EventStatus.PENDING);
@@ -215,6 +351,197 @@ class EventServiceImplTest {
         verify(eventRepository).findAll();
     }
 
+    @Test
+    void getEventPageReturnsCursorUntilLastPage() {
+        Event e1 = Event.builder().id(1L).name("A").build();
+        Event e2 = Event.builder().id(2L).name("B").build();
+        Event e3 = Event.builder().id(3L).name("C").build();
+        when(eventRepository.findByIdGreaterThan(eq(Long.MIN_VALUE), any(Pageable.class), eq(Event.class)))
+                .thenReturn(List.of(e1, e2, e3));
+        when(eventRepository.findByIdGreaterThan(eq(2L), any(Pageable.class), eq(Event.class)))
+                .thenReturn(List.of(e3));
+
+        CursorPage<Event> first = eventService.getEventPage(null, 2, "id", "asc");
+
+        assertEquals(2, first.getSize());
+        assertEquals(List.of(e1, e2), first.getItems());
+        assertNotNull(first.getNext());
+
+        CursorPage<Event> second = eventService.getEventPage(first.getNext(), 2, "id", "asc");
+
+        assertEquals(List.of(e3), second.getItems());
+        assertNull(second.getNext());
+    }
+
+    @Test
+    void getEventPageByStartDateContinuesWithUndatedEvents() {
+        Date start = new Date();
+        Event dated = Event.builder().id(5L).startDate(start).build();
+        Event undated = Event.builder().id(2L).build();
+        when(eventRepository.findByStartDateIsNotNull(any(Pageable.class), eq(Event.class))).thenReturn(List.of(dated));
+        when(eventRepository.findByStartDateIsNullAndIdGreaterThan(eq(Long.MIN_VALUE), any(Pageable.class), eq(Event.class)))
+                .thenReturn(List.of(undated));
+
+        CursorPage<Event> page = eventService.getEventPage(null, 5, "startDate", "asc");
+
+        assertEquals(List.of(dated, undated), page.getItems());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void getEventSummaryPageUsesProjection() {
+        EventSummary summary = mock(EventSummary.class);
+        when(summary.getId()).thenReturn(4L);
+        when(eventRepository.findByIdGreaterThan(eq(Long.MIN_VALUE), any(Pageable.class), eq(EventSummary.class)))
+                .thenReturn(List.of(summary));
+
+        CursorPage<EventSummary> page = eventService.getEventSummaryPage(null, 10, "id", "asc");
+
+        assertEquals(List.of(summary), page.getItems());
+        verify(eventRepository, never()).findByIdGreaterThan(anyLong(), any(Pageable.class), eq(Event.class));
+    }
+
+    @Test
+    void createEventRejectsScheduleConflict() {
+        Event event = new Event();
+        event.setName("Workshop");
+        event.setStatus(EventStatus.PENDING);
+        event.setLocation("Main Hall");
+        event.setStartDate(new Date(1_000L));
+        event.setEndDate(new Date(2_000L));
+        when(scheduleIndex.findOverlapping("Main Hall", event.getStartDate(), event.getEndDate())).thenReturn(List.of(7L));
+
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.createEvent(event, true)
+        );
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertTrue(ex.getReason().contains("[7]"));
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void createEventAddsSavedEventToScheduleIndex() {
+        Event event = new Event();
+        event.setName("Workshop");
+        event.setStatus(EventStatus.PENDING);
+        when(eventRepository.save(event)).thenReturn(event);
+
+        eventService.createEvent(event);
+
+        verify(scheduleIndex, never()).findOverlapping(any(), any(), any());
+        verify(scheduleIndex).put(event);
+    }
+
+    @Test
+    void getConflictingEventsKeepsIndexOrder() {
+        Date from = new Date(1_000L);
+        EventSummary first = summary(5L, EventStatus.PENDING);
+        EventSummary second = summary(2L, EventStatus.PENDING);
+        when(scheduleIndex.findOverlapping("Main Hall", from, null)).thenReturn(List.of(5L, 2L));
+        when(eventRepository.findSummariesByIdIn(List.of(5L, 2L))).thenReturn(List.of(second, first));
+
+        assertEquals(List.of(first, second), eventService.getConflictingEvents("Main Hall", from, null));
+    }
+
+    @Test
+    void searchEventsReturnsSummariesInRankOrder() {
+        EventSummary best = summary(8L, EventStatus.PENDING);
+        EventSummary next = summary(3L, EventStatus.PENDING);
+        when(searchIndex.search("tech", 0, 20)).thenReturn(new EventSearchIndex.Hits(List.of(8L, 3L), 2));
+        when(eventRepository.findSummariesByIdIn(List.of(8L, 3L))).thenReturn(List.of(next, best));
+
+        SearchPage<EventSummary> page = eventService.searchEvents("tech", null, null);
+
+        assertEquals(List.of(best, next), page.getItems());
+        assertEquals(2, page.getTotal());
+    }
+
+    @Test
+    void searchEventsWithBlankQuery() {
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.searchEvents("  ", 0, 10)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void searchEventsPastTheHitCap() {
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.searchEvents("tech", Integer.MAX_VALUE, 100)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void getEventsActiveBetweenQueriesOverlap() {
+        Date from = new Date(1_000L);
+        Date to = new Date(2_000L);
+        EventSummary summary = mock(EventSummary.class);
+        when(eventRepository.findSummariesActiveBetween(from, to)).thenReturn(List.of(summary));
+
+        assertEquals(List.of(summary), eventService.getEventsActiveBetween(from, to));
+    }
+
+    @Test
+    void getEventsActiveBetweenWithReversedRange() {
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.getEventsActiveBetween(new Date(2_000L), new Date(1_000L))
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getEventsStartingThisWeekQueriesOneWeek() {
+        eventService.getEventsStartingThisWeek();
+
+        ArgumentCaptor<Date> from = ArgumentCaptor.forClass(Date.class);
+        ArgumentCaptor<Date> until = ArgumentCaptor.forClass(Date.class);
+        verify(eventRepository).findByStartDateGreaterThanEqualAndStartDateLessThanOrderByStartDateAscIdAsc(
+                from.capture(), until.capture());
+        Date now = new Date();
+        assertFalse(from.getValue().after(now));
+        assertTrue(until.getValue().after(now));
+        assertTrue(until.getValue().getTime() - from.getValue().getTime() >= Duration.ofDays(7).minusHours(1).toMillis());
+    }
+
+    @Test
+    void getEventPageWithInvalidSort() {
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.getEventPage(null, 10, "name", "asc")
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertTrue(ex.getReason().contains("Invalid sort: name"));
+    }
+
+    @Test
+    void getEventPageWithMismatchedCursor() {
+        Event e1 = Event.builder().id(1L).build();
+        Event e2 = Event.builder().id(2L).build();
+        when(eventRepository.findByIdGreaterThan(eq(Long.MIN_VALUE), any(Pageable.class), eq(Event.class)))
+                .thenReturn(List.of(e1, e2));
+
+        String next = eventService.getEventPage(null, 1, "id", "asc").getNext();
+
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.getEventPage(next, 1, "id", "desc")
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
 
     @Test
     void updateEventStatusSuccessfully() {
@@ -229,6 +556,41 @@ class EventServiceImplTest {
 
         assertEquals(EventStatus.ACCEPTED, updated.getStatus());
         verify(eventRepository).save(event);
+        verify(changeFeed).eventChanged(ChangeFeed.UPDATED, event);
+    }
+
+    @Test
+    void updateEventStatusWithStaleVersion() {
+        Event event = new Event();
+        event.setId(1L);
+        event.setVersion(3L);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.updateEventStatus(1L, "accepted", 2L)
+        );
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, ex.getStatusCode());
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void updateEventPartialWithConcurrentWrite() {
+        Event event = new Event();
+        event.setId(1L);
+        event.setVersion(3L);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.save(event)).thenThrow(new ObjectOptimisticLockingFailureException(Event.class, 1L));
+
+        EventPatchRequest request = new EventPatchRequest();
+        request.setStatus("accepted");
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.updateEventPartial(1L, request, 3L)
+        );
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
     }
 
     @Test
@@ -259,13 +621,123 @@ class EventServiceImplTest {
         assertTrue(ex.getReason().contains("Event not found with id: 2"));
     }
 
+    @Test
+    void updateEventStatusesRunsSingleUpdateAndReportsEachId() {
+        EventSummary pending = summary(1L, EventStatus.PENDING);
+        EventSummary accepted = summary(2L, EventStatus.ACCEPTED);
+        when(eventRepository.findLockedSummariesByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(pending, accepted));
+        when(eventRepository.updateStatusByIdIn(List.of(1L), EventStatus.ACCEPTED, null)).thenReturn(1);
+
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setIds(List.of(1L, 2L, 3L));
+        request.setStatus("accepted");
+        BulkStatusResult result = eventService.updateEventStatuses(request);
+
+        assertEquals("ACCEPTED", result.getStatus());
+        assertEquals(1, result.getUpdated());
+        assertEquals(BulkStatusResult.Outcome.UPDATED, result.getOutcomes().get(1L));
+        assertEquals(BulkStatusResult.Outcome.SKIPPED, result.getOutcomes().get(2L));
+        assertEquals(BulkStatusResult.Outcome.NOT_FOUND, result.getOutcomes().get(3L));
+        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventCache).invalidate(1L);
+    }
+
+    @Test
+    void updateEventStatusesByFromStatus() {
+        EventSummary first = summary(1L, EventStatus.PENDING);
+        EventSummary second = summary(4L, EventStatus.PENDING);
+        when(eventRepository.findLockedSummariesByStatusOrderById(eq(EventStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(eventRepository.updateStatusByIdIn(List.of(1L, 4L), EventStatus.BUDGETED, EventStatus.PENDING)).thenReturn(2);
+
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setFromStatus("pending");
+        request.setStatus("budgeted");
+        BulkStatusResult result = eventService.updateEventStatuses(request);
+
+        assertEquals(2, result.getUpdated());
+        assertEquals(Set.of(1L, 4L), result.getOutcomes().keySet());
+    }
+
+    @Test
+    void updateEventStatusesWithoutSelection() {
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setStatus("accepted");
+
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.updateEventStatuses(request)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verify(eventRepository, never()).updateStatusByIdIn(anyCollection(), any(), any());
+    }
+
+    @Test
+    void updateEventStatusesWithTooManyIds() {
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setIds(LongStream.rangeClosed(1, 5001).boxed().toList());
+        request.setStatus("accepted");
+
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> eventService.updateEventStatuses(request)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verify(eventRepository, never()).findLockedSummariesByIdIn(anyCollection());
+    }
+
+    private EventSummary summary(Long id, EventStatus status) {
+        EventSummary summary = mock(EventSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getStatus()).thenReturn(status);
+        return summary;
+    }
+
     @Test
     void deleteEventSuccessfully() {
-        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findStatusById(1L)).thenReturn(Optional.of(EventStatus.PENDING));
         assertDoesNotThrow(() -> eventService.deleteEvent(1L));
         verify(eventRepository, times(1)).deleteById(1L);
+        verify(scheduleIndex).remove(1L);
+        verify(statusCounters).removed(EventStatus.PENDING);
     }
 
+    @Test
+    void statusCountsFollowCreateAndStatusChanges() {
+        Event event = new Event();
+        event.setId(1L);
+        event.setName("Workshop");
+        event.setStatus(EventStatus.PENDING);
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        eventService.createEvent(event);
+        eventService.createEvent(Event.builder().name("Expo").status(EventStatus.PENDING).build());
+        eventService.updateEventStatus(1L, "accepted");
+
+        Map<EventStatus, Long> counts = eventService.getStatusCounts();
+        assertEquals(1L, counts.get(EventStatus.PENDING));
+        assertEquals(1L, counts.get(EventStatus.ACCEPTED));
+        assertEquals(0L, counts.get(EventStatus.REJECTED));
+        verify(eventRepository, never()).findAllByStatus(any());
+    }
+
+
+    @Test
+    void deleteEventWithCascadeUsesBulkStatements() {
+        when(eventRepository.findStatusById(1L)).thenReturn(Optional.of(EventStatus.BUDGETED));
+        when(eventRepository.findBudgetIdById(1L)).thenReturn(Optional.of(4L));
+
+        eventService.deleteEvent(1L, true);
+
+        verify(taskService).deleteTasksByEventId(1L);
+        verify(eventRepository).deleteInBulkById(1L);
+        verify(budgetService).deleteBudget(4L);
+        verify(eventRepository, never()).deleteById(any());
+        verify(statusCounters).removed(EventStatus.BUDGETED);
+    }
 
     @Test
     void deleteEventWithNotFound() {
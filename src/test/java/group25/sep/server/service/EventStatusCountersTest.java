@@ -0,0 +1,78 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.EventStatusCount;
+import group25.sep.server.model.enums.EventStatus;
+import group25.sep.server.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventStatusCountersTest {
+
+    private EventRepository eventRepository;
+    private EventStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        when(eventRepository.countGroupByStatus()).thenReturn(List.of());
+        counters = new EventStatusCounters(eventRepository);
+        counters.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changesOutsideTransactionApplyImmediately() {
+        counters.added(EventStatus.PENDING);
+        counters.moved(EventStatus.PENDING, EventStatus.ACCEPTED);
+
+        assertEquals(0L, counters.snapshot().get(EventStatus.PENDING));
+        assertEquals(1L, counters.snapshot().get(EventStatus.ACCEPTED));
+    }
+
+    @Test
+    void changesInsideTransactionWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        counters.added(EventStatus.PENDING);
+        assertEquals(0L, counters.snapshot().get(EventStatus.PENDING));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1L, counters.snapshot().get(EventStatus.PENDING));
+    }
+
+    @Test
+    void rolledBackChangesAreDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        counters.added(EventStatus.PENDING);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(0L, counters.snapshot().get(EventStatus.PENDING));
+    }
+
+    @Test
+    void reseedReplacesCountsInsteadOfAddingToThem() {
+        EventStatusCount pending = mock(EventStatusCount.class);
+        when(pending.getStatus()).thenReturn(EventStatus.PENDING);
+        when(pending.getCount()).thenReturn(3L);
+        when(eventRepository.countGroupByStatus()).thenReturn(List.of(pending));
+
+        counters.load();
+        counters.load();
+
+        assertEquals(3L, counters.snapshot().get(EventStatus.PENDING));
+        assertEquals(0L, counters.snapshot().get(EventStatus.ACCEPTED));
+    }
+}
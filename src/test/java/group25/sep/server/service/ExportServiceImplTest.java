@@ -0,0 +1,87 @@
+package group25.sep.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group25.sep.server.model.Event;
+import group25.sep.server.model.Task;
+import group25.sep.server.model.enums.EventStatus;
+import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.repository.BudgetRepository;
+import group25.sep.server.repository.EventRepository;
+import group25.sep.server.repository.FinancialRequestRepository;
+import group25.sep.server.repository.RecruitmentRequestRepository;
+import group25.sep.server.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportServiceImplTest {
+
+    private EventRepository eventRepository;
+    private TaskRepository taskRepository;
+    private EntityManager entityManager;
+    private ExportServiceImpl exportService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        taskRepository = mock(TaskRepository.class);
+        entityManager = mock(EntityManager.class);
+        exportService = new ExportServiceImpl(
+                eventRepository,
+                taskRepository,
+                mock(FinancialRequestRepository.class),
+                mock(RecruitmentRequestRepository.class),
+                mock(BudgetRepository.class),
+                entityManager,
+                objectMapper);
+    }
+
+    @Test
+    void exportEventsWritesOneJsonObjectPerLine() throws Exception {
+        Event first = Event.builder().id(1L).name("Workshop").status(EventStatus.PENDING).build();
+        Event second = Event.builder().id(2L).name("Seminar").status(EventStatus.APPROVED).build();
+        when(eventRepository.streamAll()).thenReturn(Stream.of(first, second));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.exportEvents(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertEquals("Workshop", objectMapper.readValue(lines[0], Map.class).get("name"));
+        assertEquals("Seminar", objectMapper.readValue(lines[1], Map.class).get("name"));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportTasksWhenTableIsEmpty() throws Exception {
+        when(taskRepository.streamAll()).thenReturn(Stream.<Task>empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.exportTasks(out);
+
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void exportClosesTheRepositoryStream() throws Exception {
+        Task task = Task.builder().id(1L).eventId(1L).priority(TaskPriority.HIGH).build();
+        boolean[] closed = {false};
+        when(taskRepository.streamAll()).thenReturn(Stream.of(task).onClose(() -> closed[0] = true));
+
+        exportService.exportTasks(new ByteArrayOutputStream());
+
+        assertTrue(closed[0]);
+    }
+}
@@ -0,0 +1,73 @@
+package group25.sep.server.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of answering a miss the old way (a RuntimeException with a full stack trace)
+ * against the stackless NotFoundException and a plain empty list.
+ * The depth parameter stands in for the Spring MVC frames sitting above a service call.
+ * Not part of the test run; start it from the IDE or with {@code main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundExceptionBenchmark {
+
+    @Param({"20", "120"})
+    int depth;
+
+    @Benchmark
+    public void runtimeException(Blackhole bh) {
+        try {
+            descend(depth, () -> { throw new RuntimeException("Task not found with id: 1"); });
+        } catch (RuntimeException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void notFoundException(Blackhole bh) {
+        try {
+            descend(depth, () -> { throw new NotFoundException("Task", 1L); });
+        } catch (NotFoundException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void emptyList(Blackhole bh) {
+        bh.consume(descend(depth, List::of));
+    }
+
+    private static List<Object> descend(int frames, Lookup lookup) {
+        return frames == 0 ? lookup.find() : descend(frames - 1, lookup);
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        List<Object> find();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NotFoundExceptionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
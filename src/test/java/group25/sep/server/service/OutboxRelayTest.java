@@ -0,0 +1,76 @@
+package group25.sep.server.service;
+
+import group25.sep.server.model.OutboxRecord;
+import group25.sep.server.repository.OutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    private static OutboxRecord record(long id) {
+        return OutboxRecord.builder().id(id).aggregateType(ChangeFeed.TASK).aggregateId(id).status("COMPLETED").build();
+    }
+
+    @Test
+    void drainDeliversBatchesUntilAShortOne() throws Exception {
+        OutboxRelay relay = new OutboxRelay(outboxRepository, sink, 2, 7);
+        List<OutboxRecord> first = List.of(record(1), record(2));
+        List<OutboxRecord> second = List.of(record(3));
+        when(outboxRepository.findByDeliveredAtIsNullOrderByIdAsc(any())).thenReturn(first, second);
+
+        int delivered = relay.drain();
+
+        assertThat(delivered).isEqualTo(3);
+        verify(sink).deliver(first);
+        verify(sink).deliver(second);
+        verify(outboxRepository).markDelivered(eq(List.of(1L, 2L)), any());
+        verify(outboxRepository).markDelivered(eq(List.of(3L)), any());
+    }
+
+    @Test
+    void failedDeliveryLeavesBatchPending() throws Exception {
+        OutboxRelay relay = new OutboxRelay(outboxRepository, sink, 10, 7);
+        List<OutboxRecord> batch = List.of(record(1));
+        when(outboxRepository.findByDeliveredAtIsNullOrderByIdAsc(any())).thenReturn(batch);
+        doThrow(new IOException("down")).when(sink).deliver(batch);
+
+        int delivered = relay.drain();
+
+        assertThat(delivered).isZero();
+        verify(outboxRepository, never()).markDelivered(anyCollection(), any());
+    }
+
+    @Test
+    void purgeDeletesDeliveredRecordsPastRetention() {
+        OutboxRelay relay = new OutboxRelay(outboxRepository, sink, 10, 7);
+        when(outboxRepository.deleteDeliveredBefore(any())).thenReturn(4);
+
+        assertThat(relay.purgeDelivered()).isEqualTo(4);
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        verify(outboxRepository).deleteDeliveredBefore(argThat(cutoff ->
+                !cutoff.isAfter(weekAgo) && cutoff.isAfter(weekAgo.minusMinutes(1))));
+    }
+}
@@ -274,4 +274,18 @@ class RecruitmentRequestServiceImplTest {
         verify(repository, times(1)).findById(requestId);
         verify(repository, times(1)).save(any(RecruitmentRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteRecruitmentRequest_WhenRequestNotExists_ShouldThrowNotFound() {
+        // ARRANGE
+        when(repository.findById(999L)).thenReturn(Optional.empty());
+
+        // ACT & ASSERT
+        assertThatThrownBy(() -> service.deleteRecruitmentRequest(999L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Recruitment request not found with id: 999");
+
+        // VERIFY
+        verify(repository, never()).deleteById(any());
+    }
+}
@@ -0,0 +1,107 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.CursorPage;
+import group25.sep.server.model.TaskComment;
+import group25.sep.server.repository.TaskCommentRepository;
+import group25.sep.server.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCommentServiceImplTest {
+    @Mock
+    private TaskCommentRepository commentRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskCommentServiceImpl commentService;
+
+    private static TaskComment comment(Long id) {
+        return TaskComment.builder().id(id).taskId(1L).author("Mary").body("Comment " + id).build();
+    }
+
+    @Test
+    void addComment_ShouldAttachToTaskAndSave() {
+        // ARRANGE
+        TaskComment request = TaskComment.builder().id(99L).taskId(7L).author("Mary").body("Need more tables").build();
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.save(any(TaskComment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //ACT
+        TaskComment result = commentService.addComment(1L, request);
+
+        //ASSERT
+        assertThat(result.getId()).isNull();
+        assertThat(result.getTaskId()).isEqualTo(1L);
+        assertThat(result.getCreatedAt()).isNotNull();
+        verify(commentRepository, times(1)).save(request);
+    }
+
+    @Test
+    void addComment_WithBlankBody_ShouldThrowBadRequest() {
+        // ARRANGE
+        TaskComment request = TaskComment.builder().author("Mary").body("  ").build();
+
+        //ACT/ASSERT
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> commentService.addComment(1L, request));
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    void addComment_ToMissingTask_ShouldThrowNotFound() {
+        // ARRANGE
+        when(taskRepository.existsById(5L)).thenReturn(false);
+
+        //ACT/ASSERT
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> commentService.addComment(5L, comment(null)));
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getComments_ShouldReturnCursorUntilLastPage() {
+        // ARRANGE
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findByTaskIdAndIdGreaterThan(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(comment(1L), comment(2L), comment(3L)));
+        when(commentRepository.findByTaskIdAndIdGreaterThan(eq(1L), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(comment(3L)));
+
+        //ACT
+        CursorPage<TaskComment> first = commentService.getComments(1L, null, 2);
+        CursorPage<TaskComment> second = commentService.getComments(1L, first.getNext(), 2);
+
+        //ASSERT
+        assertThat(first.getItems()).extracting(TaskComment::getId).containsExactly(1L, 2L);
+        assertThat(first.getNext()).isEqualTo("2");
+        assertThat(second.getItems()).extracting(TaskComment::getId).containsExactly(3L);
+        assertThat(second.getNext()).isNull();
+    }
+
+    @Test
+    void getComments_WithInvalidCursor_ShouldThrowBadRequest() {
+        //ACT/ASSERT
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> commentService.getComments(1L, "abc", null));
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(commentRepository, never()).findByTaskIdAndIdGreaterThan(anyLong(), anyLong(), any());
+    }
+}
@@ -1,21 +1,40 @@
 package group25.sep.server.service;
 
+import group25.sep.server.dto.BulkDeleteResult;
+import group25.sep.server.dto.BulkTaskResult;
+import group25.sep.server.dto.TaskBoard;
+import group25.sep.server.dto.TaskBoardColumn;
+import group25.sep.server.dto.TaskFilter;
 import group25.sep.server.model.Task;
+import group25.sep.server.model.TaskRef;
+import group25.sep.server.model.TaskStatusCount;
 import group25.sep.server.model.enums.TaskPriority;
 import group25.sep.server.model.enums.TaskStatus;
+import group25.sep.server.repository.TaskCommentRepository;
 import group25.sep.server.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.eq;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.not;
@@ -29,6 +48,18 @@ public class TaskServiceImplTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskCommentRepository taskCommentRepository;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private TaskWorkloadIndex workloadIndex;
+
+    @Mock
+    private Outbox outbox;
+
     // @InjectMocks creates an instance of RecruitmentRequestServiceImpl
     // and injects the mocked repository into it
     @InjectMocks
@@ -156,6 +187,7 @@ public class TaskServiceImplTest {
         assertThat(result.getProjectReference()).isEqualTo("AI Summit");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
         verify(taskRepository, times(1)).save(testTask);
+        verify(changeFeed, times(1)).taskChanged(ChangeFeed.CREATED, savedTask);
     }
 
     @Test
@@ -231,13 +263,16 @@ public class TaskServiceImplTest {
 
     }
 
-    @Test void getTaskByStatus_InCaseTaskStatusNotAppearing_ShuoldThrowException() {
+    @Test void getTaskByStatus_InCaseTaskStatusNotAppearing_ShouldReturnEmptyList() {
         // ARRANGE 
         String notAppearingStatus = "created";
-        when (taskRepository.findByStatus(TaskStatus.valueOf(notAppearingStatus.toUpperCase()))).thenThrow(new RuntimeException("No tasks found with status"));
+        when (taskRepository.findByStatus(TaskStatus.CREATED)).thenReturn(List.of());
 
-        //ACT/Assert
-        assertThrows(RuntimeException.class, () -> taskService.getTasksByStatus(notAppearingStatus));
+        //ACT
+        List<Task> result = taskService.getTasksByStatus(notAppearingStatus);
+
+        //ASSERT
+        assertThat(result).isEmpty();
     }
 
     @Test void getTaskByStatus_InCaseTaskStatusDoesntExist_ShouldThrowException() {
@@ -275,13 +310,16 @@ public class TaskServiceImplTest {
         verify(taskRepository, times(1)).findBySubteam(validsubteam);
     }
 
-    @Test void getTaskByStatus_InCaseTaskSubteamNotAppearing_ShouldThrowException() {
+    @Test void getTaskByStatus_InCaseTaskSubteamNotAppearing_ShouldReturnEmptyList() {
         // ARRANGE 
         String notAppearingSubteam = "music";
-        when (taskRepository.findBySubteam(notAppearingSubteam)).thenThrow(new RuntimeException("No tasks found under subteam"));
+        when (taskRepository.findBySubteam(notAppearingSubteam)).thenReturn(List.of());
 
-        //ACT/Assert
-        assertThrows(RuntimeException.class, () -> taskService.getTasksBySubteam(notAppearingSubteam));
+        //ACT
+        List<Task> result = taskService.getTasksBySubteam(notAppearingSubteam);
+
+        //ASSERT
+        assertThat(result).isEmpty();
     }
 
     @Test void getTaskByStatus_InCaseTaskSubteamDoesntExist_ShouldThrowException() {
@@ -364,6 +402,18 @@ public class TaskServiceImplTest {
         assertThrows(RuntimeException.class, () -> taskService.updateTaskStatus(validID, invalidStatus));
     }
 
+    @Test void updateTaskStatus_InCaseOfInvalidStatus_ShouldBeBadRequest() {
+        // ARRANGE
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(savedTask));
+
+        //ACT
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> taskService.updateTaskStatus(1L, "finished"));
+
+        //ASSERT
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test void updateTaskCommentsInCaseOfValidArguments_ShouldUpdateTaskComments() {
         //ARRANGE
         Long validID = 1L;
@@ -394,4 +444,290 @@ public class TaskServiceImplTest {
         //ACT/ASSERT
         assertThrows(RuntimeException.class, () -> taskService.updateTaskComments(invalidID, validComments));
     }
+
+    @Test void getTaskBoard_ShouldGroupByStatusAndSortByPriority() {
+        // ARRANGE
+        Task lowTask = Task.builder().id(4L).eventId(1L).priority(TaskPriority.LOW).status(TaskStatus.IN_PROGRESS).build();
+        when(taskRepository.findByEventId(1L)).thenReturn(List.of(lowTask, secondSavedTask, savedTask));
+
+        //ACT
+        TaskBoard board = taskService.getTaskBoard(1L, null);
+
+        //ASSERT
+        TaskBoardColumn inProgress = board.getColumns().get(TaskStatus.IN_PROGRESS);
+        assertThat(board.getColumns()).containsOnlyKeys(TaskStatus.values());
+        assertThat(inProgress.getCount()).isEqualTo(3);
+        assertThat(inProgress.getTasks()).extracting(Task::getId).containsExactly(1L, 2L, 4L);
+        assertThat(board.getColumns().get(TaskStatus.CREATED).getTasks()).isEmpty();
+        verify(taskRepository, times(1)).findByEventId(1L);
+    }
+
+    @Test void getTaskBoard_WithLimit_ShouldKeepFullCountsAndReadOnlyShownRows() {
+        // ARRANGE
+        TaskStatusCount inProgressCount = mock(TaskStatusCount.class);
+        when(inProgressCount.getStatus()).thenReturn(TaskStatus.IN_PROGRESS);
+        when(inProgressCount.getCount()).thenReturn(2L);
+        when(taskRepository.countByEventIdGroupByStatus(1L)).thenReturn(List.of(inProgressCount));
+        when(taskRepository.findBoardColumn(1L, TaskStatus.IN_PROGRESS, PageRequest.of(0, 1))).thenReturn(List.of(savedTask));
+
+        //ACT
+        TaskBoard board = taskService.getTaskBoard(1L, 1);
+
+        //ASSERT
+        TaskBoardColumn inProgress = board.getColumns().get(TaskStatus.IN_PROGRESS);
+        assertThat(inProgress.getCount()).isEqualTo(2);
+        assertThat(inProgress.getTasks()).extracting(Task::getId).containsExactly(1L);
+        assertThat(board.getColumns().get(TaskStatus.CREATED).getCount()).isZero();
+        verify(taskRepository, times(1)).findBoardColumn(any(), any(), any());
+        verify(taskRepository, never()).findByEventId(any());
+    }
+
+    @Test void getTaskBoard_WithNegativeLimit_ShouldThrowException() {
+        //ACT/ASSERT
+        assertThrows(RuntimeException.class, () -> taskService.getTaskBoard(1L, -1));
+        verify(taskRepository, never()).findByEventId(any());
+    }
+
+    @Test void findTasks_ShouldPassSpecificationAndStablePaging() {
+        // ARRANGE
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(List.of("in_progress"));
+        filter.setSubteam("Food");
+        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(savedTask)));
+
+        //ACT
+        Page<Task> result = taskService.findTasks(filter, 1, 10, "subteam,desc");
+
+        //ASSERT
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository, times(1)).findAll(any(Specification.class), pageable.capture());
+        assertThat(result.getContent()).containsExactly(savedTask);
+        assertThat(pageable.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "subteam").and(Sort.by("id")));
+    }
+
+    @Test void findTasks_WithInvalidPriority_ShouldThrowException() {
+        // ARRANGE
+        TaskFilter filter = new TaskFilter();
+        filter.setPriority(List.of("urgent"));
+
+        //ACT/ASSERT
+        assertThrows(RuntimeException.class, () -> taskService.findTasks(filter, null, null, null));
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test void findTasks_WithUnknownSortField_ShouldThrowException() {
+        //ACT/ASSERT
+        assertThrows(RuntimeException.class, () -> taskService.findTasks(new TaskFilter(), null, null, "description"));
+    }
+
+    @Test void createTasks_ShouldSaveValidRowsAndReportInvalidOnes() {
+        // ARRANGE
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            long id = 100;
+            for (Task task : tasks) {
+                task.setId(id++);
+            }
+            return tasks;
+        });
+
+        //ACT
+        BulkTaskResult result = taskService.createTasks(List.of(testTask, missingPriority, secondSavedTask));
+
+        //ASSERT
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getIds()).containsExactly(100L, null, 101L);
+        assertThat(result.getErrors()).containsOnlyKeys(1);
+        assertThat(result.getErrors().get(1)).isEqualTo("Row 1: Priority Required");
+        verify(taskRepository, times(1)).saveAll(List.of(testTask, secondSavedTask));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test void createTasks_WithEmptyList_ShouldThrowException() {
+        //ACT/ASSERT
+        assertThrows(RuntimeException.class, () -> taskService.createTasks(List.of()));
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test void deleteTask_ShouldDeleteCommentLogToo() {
+        // ARRANGE
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(Task.builder().id(1L).build()));
+
+        //ACT
+        taskService.deleteTask(1L);
+
+        //ASSERT
+        verify(taskCommentRepository, times(1)).deleteByTaskId(1L);
+        verify(taskRepository, times(1)).deleteById(1L);
+    }
+
+    @Test void deleteTask_WhenTaskNotFound_ShouldThrowNotFound() {
+        // ARRANGE
+        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+
+        //ACT/ASSERT
+        assertThrows(NotFoundException.class, () -> taskService.deleteTask(99L));
+        verify(taskCommentRepository, never()).deleteByTaskId(any());
+        verify(taskRepository, never()).deleteById(any());
+    }
+
+    @Test void createTask_WithAutoAssign_ShouldPickLeastLoadedMember() {
+        // ARRANGE
+        testTask.setAssignee(null);
+        when(workloadIndex.leastLoaded("Food")).thenReturn(Optional.of("Tom"));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //ACT
+        Task result = taskService.createTask(testTask, true);
+
+        //ASSERT
+        assertThat(result.getAssignee()).isEqualTo("Tom");
+        verify(workloadIndex, times(1)).put(result);
+    }
+
+    @Test void createTask_WithAutoAssign_ShouldKeepExplicitAssignee() {
+        // ARRANGE
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //ACT
+        Task result = taskService.createTask(testTask, true);
+
+        //ASSERT
+        assertThat(result.getAssignee()).isEqualTo("Mary");
+        verify(workloadIndex, never()).leastLoaded(any());
+    }
+
+    @Test void createTask_WithAutoAssignAndUnknownSubteam_ShouldThrowException() {
+        // ARRANGE
+        testTask.setAssignee(null);
+        when(workloadIndex.leastLoaded("Food")).thenReturn(Optional.empty());
+
+        //ACT/ASSERT
+        assertThrows(RuntimeException.class, () -> taskService.createTask(testTask, true));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test void getTopTasks_ShouldFillFromCriticalThenHigh() {
+        // ARRANGE
+        when(taskRepository.findByPriorityAndStatusNot(eq(TaskPriority.CRITICAL), eq(TaskStatus.COMPLETED), any(Pageable.class)))
+                .thenReturn(List.of(savedTask));
+        when(taskRepository.findByPriorityAndStatusNot(eq(TaskPriority.HIGH), eq(TaskStatus.COMPLETED), any(Pageable.class)))
+                .thenReturn(List.of(secondSavedTask));
+
+        //ACT
+        List<Task> result = taskService.getTopTasks(2, null);
+
+        //ASSERT
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findByPriorityAndStatusNot(eq(TaskPriority.HIGH), eq(TaskStatus.COMPLETED), pageable.capture());
+        assertThat(result).containsExactly(savedTask, secondSavedTask);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(1);
+    }
+
+    @Test void getTopTasks_ShouldStopOnceCriticalFillsK() {
+        // ARRANGE
+        when(taskRepository.findByPriorityAndSubteamAndStatusNot(eq(TaskPriority.CRITICAL), eq("Food"), eq(TaskStatus.COMPLETED), any(Pageable.class)))
+                .thenReturn(List.of(savedTask));
+
+        //ACT
+        List<Task> result = taskService.getTopTasks(1, "Food");
+
+        //ASSERT
+        assertThat(result).containsExactly(savedTask);
+        verify(taskRepository, never()).findByPriorityAndSubteamAndStatusNot(eq(TaskPriority.HIGH), any(), any(), any());
+    }
+
+    @Test void getTopTasks_WithInvalidK_ShouldThrowException() {
+        //ACT/ASSERT
+        assertThrows(RuntimeException.class, () -> taskService.getTopTasks(0, null));
+    }
+
+    @Test void getTaskById_InCaseTaskMissing_ShouldThrowNotFoundException() {
+        // ARRANGE
+        when(taskRepository.findById(9L)).thenReturn(Optional.empty());
+
+        //ACT
+        NotFoundException ex = assertThrows(NotFoundException.class, () -> taskService.getTaskById(9L));
+
+        //ASSERT
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(ex.getStackTrace()).isEmpty();
+    }
+
+    @Test void updateTaskStatus_ShouldRecordStatusChangeInOutbox() {
+        // ARRANGE
+        Task task = Task.builder().id(5L).eventId(2L).status(TaskStatus.CREATED).build();
+        when(taskRepository.findById(5L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(task)).thenReturn(task);
+
+        //ACT
+        taskService.updateTaskStatus(5L, "completed");
+
+        //ASSERT
+        verify(outbox).statusChanged(ChangeFeed.TASK, 5L, 2L, TaskStatus.CREATED, TaskStatus.COMPLETED);
+    }
+
+    @Test void deleteTasks_ShouldDeleteFoundIdsInOneStatement() {
+        // ARRANGE
+        TaskRef ref = mock(TaskRef.class);
+        when(ref.getId()).thenReturn(1L);
+        when(taskRepository.findRefsByIdIn(List.of(1L, 99L))).thenReturn(List.of(ref));
+        when(taskRepository.deleteInBulkByIdIn(List.of(1L))).thenReturn(1);
+
+        //ACT
+        BulkDeleteResult result = taskService.deleteTasks(List.of(1L, 99L));
+
+        //ASSERT
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.getIds()).containsExactly(1L);
+        verify(taskCommentRepository).deleteByTaskIdIn(List.of(1L));
+        verify(workloadIndex).remove(1L);
+        verify(taskRepository, never()).deleteById(any());
+    }
+
+    @Test void deleteTasksByEventId_ShouldDeleteCommentsAndTasksByEvent() {
+        // ARRANGE
+        TaskRef ref = mock(TaskRef.class);
+        when(ref.getId()).thenReturn(1L);
+        when(taskRepository.findRefsByEventId(7L)).thenReturn(List.of(ref));
+        when(taskRepository.deleteInBulkByEventId(7L)).thenReturn(2);
+
+        //ACT
+        BulkDeleteResult result = taskService.deleteTasksByEventId(7L);
+
+        //ASSERT
+        assertThat(result.getDeleted()).isEqualTo(2);
+        verify(taskCommentRepository).deleteByEventId(7L);
+        verify(taskCommentRepository, never()).deleteByTaskIdIn(any());
+        verify(workloadIndex).remove(1L);
+        // The second task was not in the read, so the index is rebuilt rather than left holding it.
+        verify(workloadIndex).load();
+    }
+
+    @Test
+    void deleteTasksByEventId_RebuildsWorkloadOnlyAfterCommit() {
+        // ARRANGE
+        when(taskRepository.findRefsByEventId(7L)).thenReturn(List.of());
+        when(taskRepository.deleteInBulkByEventId(7L)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            //ACT
+            taskService.deleteTasksByEventId(7L);
+
+            //ASSERT
+            verify(workloadIndex, never()).load();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(workloadIndex).load();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test void deleteTasks_WithNoIds_ShouldThrowException() {
+        //ACT/ASSERT
+        assertThrows(RuntimeException.class, () -> taskService.deleteTasks(List.of()));
+    }
 }
@@ -0,0 +1,112 @@
+package group25.sep.server.service;
+
+import group25.sep.server.dto.AssigneeWorkload;
+import group25.sep.server.model.Task;
+import group25.sep.server.model.enums.TaskPriority;
+import group25.sep.server.model.enums.TaskStatus;
+import group25.sep.server.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class TaskWorkloadIndexTest {
+
+    private TaskRepository taskRepository;
+    private TaskWorkloadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        index = new TaskWorkloadIndex(taskRepository);
+    }
+
+    private static Task task(long id, String subteam, String assignee, TaskPriority priority, TaskStatus status) {
+        return Task.builder().id(id).eventId(1L).subteam(subteam).assignee(assignee)
+                .priority(priority).status(status).build();
+    }
+
+    @Test
+    void leastLoadedWeighsByPriority() {
+        // ARRANGE
+        index.put(task(1L, "Food", "Mary", TaskPriority.CRITICAL, TaskStatus.IN_PROGRESS));
+        index.put(task(2L, "Food", "Tom", TaskPriority.LOW, TaskStatus.CREATED));
+        index.put(task(3L, "Food", "Tom", TaskPriority.MEDIUM, TaskStatus.CREATED));
+
+        //ACT/ASSERT
+        assertThat(index.leastLoaded("food")).contains("Tom");
+        assertThat(index.workload("Food")).extracting(AssigneeWorkload::getAssignee).containsExactly("Tom", "Mary");
+        assertThat(index.workload("Food").get(0).getOpenTasks()).isEqualTo(2);
+        assertThat(index.workload("Food").get(0).getLoad()).isEqualTo(3);
+    }
+
+    @Test
+    void completedAndDeletedTasksReleaseLoad() {
+        // ARRANGE
+        index.put(task(1L, "Food", "Mary", TaskPriority.LOW, TaskStatus.IN_PROGRESS));
+        index.put(task(2L, "Food", "Tom", TaskPriority.HIGH, TaskStatus.IN_PROGRESS));
+
+        //ACT
+        index.put(task(2L, "Food", "Tom", TaskPriority.HIGH, TaskStatus.COMPLETED));
+
+        //ASSERT
+        assertThat(index.leastLoaded("Food")).contains("Tom");
+        assertThat(index.workload("Food").get(0).getOpenTasks()).isZero();
+
+        //ACT
+        index.put(task(3L, "Food", "Tom", TaskPriority.CRITICAL, TaskStatus.CREATED));
+        index.remove(1L);
+
+        //ASSERT
+        assertThat(index.leastLoaded("Food")).contains("Mary");
+        assertThat(index.workload("Food").get(0).getLoad()).isZero();
+    }
+
+    @Test
+    void unknownSubteamHasNoCandidate() {
+        index.put(task(1L, "Food", "Mary", TaskPriority.LOW, TaskStatus.CREATED));
+        index.put(task(2L, null, "Tom", TaskPriority.LOW, TaskStatus.CREATED));
+
+        assertThat(index.leastLoaded("Music")).isEqualTo(Optional.empty());
+        assertThat(index.workload(null)).hasSize(1);
+    }
+
+    @Test
+    void loadRebuildsFromRepository() {
+        // ARRANGE
+        index.put(task(9L, "Music", "Sarah", TaskPriority.LOW, TaskStatus.CREATED));
+        when(taskRepository.streamAll()).thenReturn(Stream.of(
+                task(1L, "Food", "Mary", TaskPriority.LOW, TaskStatus.CREATED)));
+
+        //ACT
+        index.load();
+
+        //ASSERT
+        assertThat(index.workload(null)).extracting(AssigneeWorkload::getAssignee).isEqualTo(List.of("Mary"));
+    }
+
+    @Test
+    void rolledBackChangesLeaveLoadUntouched() {
+        // ARRANGE
+        index.put(task(1L, "Food", "Mary", TaskPriority.LOW, TaskStatus.IN_PROGRESS));
+        TransactionSynchronizationManager.initSynchronization();
+
+        //ACT
+        try {
+            index.put(task(2L, "Food", "Mary", TaskPriority.CRITICAL, TaskStatus.IN_PROGRESS));
+            index.remove(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        //ASSERT
+        assertThat(index.workload("Food").get(0).getOpenTasks()).isEqualTo(1);
+        assertThat(index.workload("Food").get(0).getLoad()).isEqualTo(1);
+    }
+}